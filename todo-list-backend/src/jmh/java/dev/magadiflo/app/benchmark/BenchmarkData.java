@@ -0,0 +1,102 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.model.dto.ItemPatchResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.dto.ItemUpdateResource;
+import dev.magadiflo.app.model.dto.PersonResource;
+import dev.magadiflo.app.model.dto.TagResource;
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.entity.Person;
+import dev.magadiflo.app.model.entity.Tag;
+import dev.magadiflo.app.model.enums.ItemStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Datos de prueba deterministas compartidos por los benchmarks.
+ */
+final class BenchmarkData {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 9, 1, 10, 30, 15, 123_456_000);
+
+    private BenchmarkData() {
+    }
+
+    static Item item(long id, int tagCount) {
+        return Item.builder()
+                .id(id)
+                .description("Descripción del item número " + id + " con un texto de longitud habitual")
+                .status(ItemStatus.values()[(int) (id % ItemStatus.values().length)])
+                .assigneeId(id % 4 + 1)
+                .assignee(Person.builder()
+                        .id(id % 4 + 1)
+                        .firstName("Nombre" + id % 4)
+                        .lastName("Apellido" + id % 4)
+                        .version(0L)
+                        .createdDate(NOW)
+                        .lastModifiedDate(NOW)
+                        .build())
+                .tags(LongStream.rangeClosed(1, tagCount)
+                        .mapToObj(tagId -> Tag.builder()
+                                .id(tagId)
+                                .name("Tag" + tagId)
+                                .version(0L)
+                                .createdDate(NOW)
+                                .lastModifiedDate(NOW)
+                                .build())
+                        .toList())
+                .version(id % 7)
+                .createdDate(NOW)
+                .lastModifiedDate(NOW.plusNanos(id * 1_000))
+                .build();
+    }
+
+    static ItemResource itemResource(long id, int tagCount) {
+        return ItemResource.builder()
+                .id(id)
+                .description("Descripción del item número " + id + " con un texto de longitud habitual")
+                .status(ItemStatus.values()[(int) (id % ItemStatus.values().length)])
+                .assignee(PersonResource.builder()
+                        .id(id % 4 + 1)
+                        .firstName("Nombre" + id % 4)
+                        .lastName("Apellido" + id % 4)
+                        .build())
+                .tags(LongStream.rangeClosed(1, tagCount)
+                        .mapToObj(tagId -> TagResource.builder().id(tagId).name("Tag" + tagId).build())
+                        .toList())
+                .version(id % 7)
+                .createdDate(NOW)
+                .lastModifiedDate(NOW.plusNanos(id * 1_000))
+                .build();
+    }
+
+    static List<ItemResource> itemResources(int size, int tagCount) {
+        return IntStream.rangeClosed(1, size)
+                .mapToObj(id -> itemResource(id, tagCount))
+                .toList();
+    }
+
+    static ItemUpdateResource itemUpdateResource(int tagCount) {
+        return ItemUpdateResource.builder()
+                .description("Descripción actualizada")
+                .status(ItemStatus.IN_PROGRESS)
+                .assigneeId(2L)
+                .tagIds(tagIds(tagCount))
+                .build();
+    }
+
+    static ItemPatchResource itemPatchResource(int tagCount) {
+        return ItemPatchResource.builder()
+                .status(ItemStatus.DONE)
+                .tagIds(tagIds(tagCount))
+                .build();
+    }
+
+    static Set<Long> tagIds(int tagCount) {
+        return Set.copyOf(LongStream.rangeClosed(1, tagCount).boxed().toList());
+    }
+}
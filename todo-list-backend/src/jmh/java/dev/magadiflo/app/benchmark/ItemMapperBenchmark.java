@@ -0,0 +1,67 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.mapper.ItemMapper;
+import dev.magadiflo.app.mapper.ItemMapperImpl;
+import dev.magadiflo.app.mapper.PersonMapperImpl;
+import dev.magadiflo.app.mapper.TagMapperImpl;
+import dev.magadiflo.app.model.dto.ItemPatchResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.dto.ItemUpdateResource;
+import dev.magadiflo.app.model.entity.Item;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeos de MapStruct usados en cada lectura (toItemResource) y escritura (update, toPatchedColumns) de items. Los
+ * mappers se obtienen de un contexto de Spring mínimo para que las dependencias entre ellos queden inyectadas como en
+ * la aplicación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemMapperBenchmark {
+
+    @Param({"0", "3", "10"})
+    private int tagCount;
+
+    private AnnotationConfigApplicationContext context;
+    private ItemMapper itemMapper;
+    private Item item;
+    private ItemUpdateResource itemUpdateResource;
+    private ItemPatchResource itemPatchResource;
+
+    @Setup
+    public void setUp() {
+        this.context = new AnnotationConfigApplicationContext(ItemMapperImpl.class, PersonMapperImpl.class, TagMapperImpl.class);
+        this.itemMapper = this.context.getBean(ItemMapper.class);
+        this.item = BenchmarkData.item(42, this.tagCount);
+        this.itemUpdateResource = BenchmarkData.itemUpdateResource(this.tagCount);
+        this.itemPatchResource = BenchmarkData.itemPatchResource(this.tagCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public ItemResource toItemResource() {
+        return this.itemMapper.toItemResource(this.item);
+    }
+
+    @Benchmark
+    public Item update() {
+        return this.itemMapper.update(this.itemUpdateResource, Item.builder().id(42L).build());
+    }
+
+    @Benchmark
+    public Map<String, Object> toPatchedColumns() {
+        return this.itemMapper.toPatchedColumns(this.itemPatchResource);
+    }
+}
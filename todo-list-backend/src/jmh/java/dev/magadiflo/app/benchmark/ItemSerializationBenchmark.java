@@ -0,0 +1,119 @@
+package dev.magadiflo.app.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.magadiflo.app.codec.BinaryMediaTypes;
+import dev.magadiflo.app.codec.StreamingCborEncoder;
+import dev.magadiflo.app.model.dto.ItemPageResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.util.ItemCursor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.codec.ServerSentEventHttpMessageWriter;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de listas de {@link ItemResource} con los mismos codecs de WebFlux que usan los endpoints: como
+ * eventos SSE (GET /api/v1/items), como arreglo JSON y como página JSON (GET /api/v1/items/page), y en streaming como
+ * NDJSON, Smile y secuencia CBOR (GET /api/v1/items/export).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemSerializationBenchmark {
+
+    private static final ResolvableType ITEM_TYPE = ResolvableType.forClass(ItemResource.class);
+    private static final ResolvableType PAGE_TYPE = ResolvableType.forClass(ItemPageResource.class);
+    private static final ResolvableType EVENT_TYPE = ResolvableType.forClassWithGenerics(ServerSentEvent.class, ItemResource.class);
+
+    @Param({"1", "50", "500"})
+    private int size;
+
+    private List<ItemResource> items;
+    private EncoderHttpMessageWriter<Object> jsonWriter;
+    private ServerSentEventHttpMessageWriter sseWriter;
+    private EncoderHttpMessageWriter<Object> smileWriter;
+    private EncoderHttpMessageWriter<Object> cborWriter;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder objectMapperBuilder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper objectMapper = objectMapperBuilder.build();
+        Jackson2JsonEncoder encoder = new Jackson2JsonEncoder(objectMapper);
+        this.items = BenchmarkData.itemResources(this.size, 3);
+        this.jsonWriter = new EncoderHttpMessageWriter<>(encoder);
+        this.sseWriter = new ServerSentEventHttpMessageWriter(encoder);
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        this.smileWriter = new EncoderHttpMessageWriter<>(new Jackson2SmileEncoder(smileMapper, BinaryMediaTypes.SMILE, BinaryMediaTypes.SMILE_STREAM));
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        this.cborWriter = new EncoderHttpMessageWriter<>(new StreamingCborEncoder(cborMapper));
+    }
+
+    @Benchmark
+    public MockServerHttpResponse sse() {
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        Flux<ServerSentEvent<ItemResource>> events = Flux.fromIterable(this.items)
+                .map(itemResource -> ServerSentEvent.builder(itemResource)
+                        .id(ItemCursor.of(itemResource).encode())
+                        .build());
+        this.sseWriter.write(events, EVENT_TYPE, MediaType.TEXT_EVENT_STREAM, response, Map.of()).block();
+        return response;
+    }
+
+    @Benchmark
+    public MockServerHttpResponse jsonArray() {
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        this.jsonWriter.write(Flux.fromIterable(this.items), ITEM_TYPE, MediaType.APPLICATION_JSON, response, Map.of()).block();
+        return response;
+    }
+
+    @Benchmark
+    public MockServerHttpResponse jsonPage() {
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        ItemPageResource page = ItemPageResource.builder()
+                .content(this.items)
+                .nextCursor(ItemCursor.of(this.items.get(this.items.size() - 1)).encode())
+                .build();
+        this.jsonWriter.write(Mono.just(page), PAGE_TYPE, MediaType.APPLICATION_JSON, response, Map.of()).block();
+        return response;
+    }
+
+    @Benchmark
+    public MockServerHttpResponse ndjson() {
+        return this.writeItems(this.jsonWriter, MediaType.APPLICATION_NDJSON);
+    }
+
+    @Benchmark
+    public MockServerHttpResponse smileStream() {
+        return this.writeItems(this.smileWriter, BinaryMediaTypes.SMILE_STREAM);
+    }
+
+    @Benchmark
+    public MockServerHttpResponse cborSequence() {
+        return this.writeItems(this.cborWriter, BinaryMediaTypes.CBOR_SEQUENCE);
+    }
+
+    private MockServerHttpResponse writeItems(EncoderHttpMessageWriter<Object> writer, MediaType mediaType) {
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        writer.write(Flux.fromIterable(this.items), ITEM_TYPE, mediaType, response, Map.of()).block();
+        return response;
+    }
+}
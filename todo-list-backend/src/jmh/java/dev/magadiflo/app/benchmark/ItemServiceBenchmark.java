@@ -0,0 +1,138 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.TodoListBackendApplication;
+import dev.magadiflo.app.model.dto.ItemPageResource;
+import dev.magadiflo.app.model.dto.ItemPatchResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.dto.ItemSearchCriteria;
+import dev.magadiflo.app.model.enums.ItemStatus;
+import dev.magadiflo.app.service.ItemService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipelines reactivos de {@link ItemService} contra una base de datos real. Se usa PostgreSQL embebido y no H2
+ * porque las consultas dependen de PostgreSQL (arreglos con ANY/unnest, RETURNING, triggers en plpgsql, tsvector);
+ * las migraciones de Liquibase se aplican al levantar el contexto y luego se cargan {@code itemCount} items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+
+    @Param({"1000"})
+    private int itemCount;
+
+    @Param({"entity", "projection"})
+    private String readModel;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private Long itemId;
+    private Long itemVersion;
+    private final ItemSearchCriteria noCriteria = new ItemSearchCriteria();
+    private final ItemSearchCriteria doneCriteria = ItemSearchCriteria.builder().status(ItemStatus.DONE).build();
+    private final ItemPatchResource statusPatch = ItemPatchResource.builder().status(ItemStatus.IN_PROGRESS).build();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        this.postgres = EmbeddedPostgres.builder().start();
+        int port = this.postgres.getPort();
+
+        // Como argumentos de línea de comandos para que tengan prioridad sobre application.yml
+        this.context = new SpringApplicationBuilder(TodoListBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.r2dbc.url=r2dbc:postgresql://localhost:%d/postgres".formatted(port),
+                        "--spring.r2dbc.username=postgres",
+                        "--spring.r2dbc.password=postgres",
+                        "--spring.liquibase.url=jdbc:postgresql://localhost:%d/postgres".formatted(port),
+                        "--spring.liquibase.user=postgres",
+                        "--spring.liquibase.password=postgres",
+                        "--app.items.read-model=" + this.readModel,
+                        "--app.query-plan-check.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.dev.magadiflo.app=WARN");
+        this.itemService = this.context.getBean(ItemService.class);
+
+        this.seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.context.close();
+        this.postgres.close();
+    }
+
+    @Benchmark
+    public List<ItemResource> findAllItems() {
+        return this.itemService.findAllItems().collectList().block();
+    }
+
+    @Benchmark
+    public ItemPageResource findItemPage() {
+        return this.itemService.findItemPage(this.noCriteria, null, 50).block();
+    }
+
+    @Benchmark
+    public ItemPageResource findItemPageByStatus() {
+        return this.itemService.findItemPage(this.doneCriteria, null, 50).block();
+    }
+
+    @Benchmark
+    public ItemResource findItemById() {
+        return this.itemService.findItemById(this.itemId, true).block();
+    }
+
+    @Benchmark
+    public ItemResource patchItem() {
+        ItemResource itemResource = this.itemService.patchItem(this.itemId, this.statusPatch, this.itemVersion).block();
+        this.itemVersion = itemResource.getVersion();
+        return itemResource;
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = this.postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            try (PreparedStatement insertItems = connection.prepareStatement("""
+                    INSERT INTO items(description, status, assignee_id)
+                    SELECT 'Item de benchmark número ' || g,
+                        (ARRAY['TO_DO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+                        (SELECT id FROM persons ORDER BY id OFFSET g % (SELECT count(*) FROM persons) LIMIT 1)
+                    FROM generate_series(1, ?) AS g
+                    """)) {
+                insertItems.setInt(1, this.itemCount);
+                insertItems.executeUpdate();
+            }
+
+            statement.executeUpdate("""
+                    INSERT INTO items_tags(item_id, tag_id)
+                    SELECT i.id, t.id
+                    FROM items AS i
+                        INNER JOIN tags AS t ON((i.id + t.id) % 2 = 0)
+                    ON CONFLICT (item_id, tag_id) DO NOTHING
+                    """);
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT id, version FROM items ORDER BY id DESC LIMIT 1")) {
+                resultSet.next();
+                this.itemId = resultSet.getLong("id");
+                this.itemVersion = resultSet.getLong("version");
+            }
+        }
+    }
+}
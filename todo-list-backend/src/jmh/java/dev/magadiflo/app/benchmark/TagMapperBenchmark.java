@@ -0,0 +1,65 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.mapper.TagMapper;
+import dev.magadiflo.app.mapper.TagMapperImpl;
+import dev.magadiflo.app.model.entity.ItemTag;
+import dev.magadiflo.app.model.entity.Tag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversiones entre colecciones de ids, {@link Tag} e {@link ItemTag} que usan updateItem, patchItem y la carga de
+ * relaciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagMapperBenchmark {
+
+    @Param({"3", "10", "100"})
+    private int tagCount;
+
+    private final TagMapper tagMapper = new TagMapperImpl();
+    private Set<Long> tagIds;
+    private List<Tag> tags;
+    private Collection<ItemTag> itemTags;
+
+    @Setup
+    public void setUp() {
+        this.tagIds = BenchmarkData.tagIds(this.tagCount);
+        this.tags = this.tagMapper.toTags(this.tagIds);
+        this.itemTags = this.tagMapper.toItemTags(42L, this.tagIds);
+    }
+
+    @Benchmark
+    public List<Tag> toTags() {
+        return this.tagMapper.toTags(this.tagIds);
+    }
+
+    @Benchmark
+    public Long[] toTagIdArray() {
+        return this.tagMapper.toTagIdArray(this.tagIds);
+    }
+
+    @Benchmark
+    public Collection<ItemTag> toItemTags() {
+        return this.tagMapper.toItemTags(42L, this.tagIds);
+    }
+
+    @Benchmark
+    public Collection<Long> extractTagIdsFromTags() {
+        return this.tagMapper.extractTagIdsFromTags(this.tags);
+    }
+
+    @Benchmark
+    public Collection<Long> extractTagIdsFromItemTags() {
+        return this.tagMapper.extractTagIdsFromItemTags(this.itemTags);
+    }
+}
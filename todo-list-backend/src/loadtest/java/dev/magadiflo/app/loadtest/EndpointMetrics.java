@@ -0,0 +1,64 @@
+package dev.magadiflo.app.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y errores de una operación. Las latencias se registran en microsegundos en un {@link Recorder} de
+ * HdrHistogram, que admite escrituras concurrentes desde los hilos de reactor-netty.
+ */
+final class EndpointMetrics {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+    private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    EndpointMetrics(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return this.name;
+    }
+
+    void recordLatency(long nanos) {
+        this.recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_LATENCY_MICROS));
+    }
+
+    /**
+     * @param cause código de estado HTTP o nombre de la excepción
+     */
+    void recordError(String cause) {
+        this.errors.computeIfAbsent(cause, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Descarta lo registrado hasta ahora; se usa al terminar el calentamiento.
+     */
+    void reset() {
+        this.recorder.reset();
+        this.errors.clear();
+    }
+
+    /**
+     * Histograma de lo registrado desde el último reset. Solo se debe llamar una vez, al terminar la medición.
+     */
+    Histogram histogram() {
+        return this.recorder.getIntervalHistogram();
+    }
+
+    Map<String, Long> errors() {
+        Map<String, Long> errors = new TreeMap<>();
+        this.errors.forEach((cause, count) -> errors.put(cause, count.sum()));
+        return errors;
+    }
+}
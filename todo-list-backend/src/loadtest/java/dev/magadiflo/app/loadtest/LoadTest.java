@@ -0,0 +1,82 @@
+package dev.magadiflo.app.loadtest;
+
+import dev.magadiflo.app.TodoListBackendApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+/**
+ * Prueba de carga de extremo a extremo: levanta PostgreSQL embebido, arranca la aplicación en un puerto libre
+ * (Liquibase crea las tablas), carga el dataset y envía tráfico mixto con WebClient. Se ejecuta con:
+ * <pre>
+ * ./mvnw -P loadtest -DskipTests test-compile exec:exec -Dloadtest.args="--items=20000 --rps=40"
+ * </pre>
+ * El cliente y la aplicación comparten la JVM y la máquina, por lo que los números sirven para comparar
+ * ejecuciones entre sí (contra la referencia), no como capacidad absoluta del servicio.
+ */
+public class LoadTest {
+
+    private static final Path OUTPUT_DIRECTORY = Path.of("target", "loadtest");
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        boolean regression;
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            int databasePort = postgres.getPort();
+            // Como argumentos de línea de comandos para que tengan prioridad sobre application.yml
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoListBackendApplication.class)
+                    .run("--server.port=0",
+                            "--spring.r2dbc.url=r2dbc:postgresql://localhost:%d/postgres".formatted(databasePort),
+                            "--spring.r2dbc.username=postgres",
+                            "--spring.r2dbc.password=postgres",
+                            "--spring.liquibase.url=jdbc:postgresql://localhost:%d/postgres".formatted(databasePort),
+                            "--spring.liquibase.user=postgres",
+                            "--spring.liquibase.password=postgres",
+                            "--app.items.read-model=" + options.readModel(),
+                            "--app.query-plan-check.enabled=false",
+                            "--logging.level.root=WARN",
+                            "--logging.level.dev.magadiflo.app=WARN");
+            try {
+                LoadTestDataset dataset = new LoadTestDataset();
+                dataset.seed(postgres.getPostgresDatabase(), options);
+                System.out.println("Dataset cargado: " + options.profile());
+
+                int port = ((ReactiveWebServerApplicationContext) context).getWebServer().getPort();
+                LoadTestScenario scenario = new LoadTestScenario(port, dataset, options);
+                try {
+                    System.out.println("Calentamiento: " + options.warmUp());
+                    scenario.run(options.warmUp());
+                    scenario.reset();
+
+                    System.out.println("Medición: " + options.duration());
+                    long elapsedNanos = scenario.run(options.duration());
+
+                    LoadTestReport report = new LoadTestReport(options, scenario.metrics(), elapsedNanos,
+                            scenario.dropped(), OUTPUT_DIRECTORY);
+                    report.print(System.out);
+                    report.write(OUTPUT_DIRECTORY.resolve("results.csv"));
+                    if (options.writeBaseline()) {
+                        report.write(options.baseline());
+                        System.out.println("Referencia actualizada: " + options.baseline());
+                        regression = false;
+                    } else {
+                        regression = report.compare(options.baseline(), System.out);
+                    }
+                } finally {
+                    scenario.close();
+                }
+            } finally {
+                context.close();
+            }
+        }
+
+        if (regression && options.failOnRegression()) {
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,117 @@
+package dev.magadiflo.app.loadtest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Carga el dataset de la prueba con JDBC, después de que Liquibase haya creado las tablas. Cada sentencia inserta
+ * todas las filas con generate_series, así los triggers de notificación y de contadores se ejecutan una sola vez.
+ * Los ids de personas y tags se guardan como rangos para que la carga elija ids al azar sin consultar la base.
+ */
+final class LoadTestDataset {
+
+    private long minPersonId;
+    private long maxPersonId;
+    private long minTagId;
+    private long maxTagId;
+    private long minItemId;
+    private long maxItemId;
+
+    void seed(DataSource dataSource, LoadTestOptions options) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (PreparedStatement insertPersons = connection.prepareStatement("""
+                    INSERT INTO persons(first_name, last_name)
+                    SELECT 'Nombre ' || g, 'Apellido ' || g
+                    FROM generate_series(1, ?) AS g
+                    """)) {
+                insertPersons.setInt(1, options.persons());
+                insertPersons.executeUpdate();
+            }
+
+            try (PreparedStatement insertTags = connection.prepareStatement("""
+                    INSERT INTO tags(name)
+                    SELECT 'tag-' || g
+                    FROM generate_series(1, ?) AS g
+                    """)) {
+                insertTags.setInt(1, options.tags());
+                insertTags.executeUpdate();
+            }
+
+            this.minPersonId = this.queryLong(statement, "SELECT min(id) FROM persons");
+            this.maxPersonId = this.queryLong(statement, "SELECT max(id) FROM persons");
+            this.minTagId = this.queryLong(statement, "SELECT min(id) FROM tags");
+            this.maxTagId = this.queryLong(statement, "SELECT max(id) FROM tags");
+
+            // Uno de cada diez items queda sin asignar
+            try (PreparedStatement insertItems = connection.prepareStatement("""
+                    INSERT INTO items(description, status, assignee_id)
+                    SELECT 'Item de carga número ' || g,
+                        (ARRAY['TO_DO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+                        CASE WHEN g % 10 = 0 THEN NULL ELSE ? + g % (? - ? + 1) END
+                    FROM generate_series(1, ?) AS g
+                    """)) {
+                insertItems.setLong(1, this.minPersonId);
+                insertItems.setLong(2, this.maxPersonId);
+                insertItems.setLong(3, this.minPersonId);
+                insertItems.setInt(4, options.items());
+                insertItems.executeUpdate();
+            }
+
+            // tags-per-item tags consecutivos (módulo la cantidad de tags), distintos para cada item
+            try (PreparedStatement insertItemsTags = connection.prepareStatement("""
+                    INSERT INTO items_tags(item_id, tag_id)
+                    SELECT i.id, ? + (i.id * 7 + k) % (? - ? + 1)
+                    FROM items AS i
+                        CROSS JOIN generate_series(0, ? - 1) AS k
+                    ON CONFLICT (item_id, tag_id) DO NOTHING
+                    """)) {
+                insertItemsTags.setLong(1, this.minTagId);
+                insertItemsTags.setLong(2, this.maxTagId);
+                insertItemsTags.setLong(3, this.minTagId);
+                insertItemsTags.setInt(4, options.tagsPerItem());
+                insertItemsTags.executeUpdate();
+            }
+
+            this.minItemId = this.queryLong(statement, "SELECT min(id) FROM items");
+            this.maxItemId = this.queryLong(statement, "SELECT max(id) FROM items");
+
+            statement.execute("ANALYZE");
+        }
+    }
+
+    long minPersonId() {
+        return this.minPersonId;
+    }
+
+    long maxPersonId() {
+        return this.maxPersonId;
+    }
+
+    long minTagId() {
+        return this.minTagId;
+    }
+
+    long maxTagId() {
+        return this.maxTagId;
+    }
+
+    long minItemId() {
+        return this.minItemId;
+    }
+
+    long maxItemId() {
+        return this.maxItemId;
+    }
+
+    private long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
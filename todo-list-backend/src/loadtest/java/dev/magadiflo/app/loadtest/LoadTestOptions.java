@@ -0,0 +1,78 @@
+package dev.magadiflo.app.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opciones de la prueba de carga. Se pasan como argumentos {@code --clave=valor}, por ejemplo
+ * {@code -Dloadtest.args="--items=50000 --rps=400 --duration=PT2M"}.
+ *
+ * @param persons           personas a insertar
+ * @param tags              tags a insertar
+ * @param items             items a insertar
+ * @param tagsPerItem       tags asociados a cada item
+ * @param rps               peticiones por segundo que se intentan enviar (carga de lazo abierto)
+ * @param maxInFlight       peticiones en curso como máximo; los ticks que no caben se descartan y se informan
+ * @param warmUp            duración del calentamiento, cuyas latencias no se registran
+ * @param duration          duración de la medición
+ * @param readModel         valor de app.items.read-model con el que se levanta la aplicación
+ * @param baseline          archivo con las latencias de referencia
+ * @param tolerance         aumento relativo del p99 respecto de la referencia que se considera una regresión
+ * @param writeBaseline     reemplaza el archivo de referencia con los resultados de esta ejecución
+ * @param failOnRegression  termina con código 1 si algún endpoint supera la tolerancia
+ */
+record LoadTestOptions(int persons,
+                       int tags,
+                       int items,
+                       int tagsPerItem,
+                       int rps,
+                       int maxInFlight,
+                       Duration warmUp,
+                       Duration duration,
+                       String readModel,
+                       Path baseline,
+                       double tolerance,
+                       boolean writeBaseline,
+                       boolean failOnRegression) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento no válido, se espera --clave=valor: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("persons", "200")),
+                Integer.parseInt(values.getOrDefault("tags", "50")),
+                Integer.parseInt(values.getOrDefault("items", "20000")),
+                Integer.parseInt(values.getOrDefault("tags-per-item", "3")),
+                Integer.parseInt(values.getOrDefault("rps", "40")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "256")),
+                Duration.parse(values.getOrDefault("warm-up", "PT20S")),
+                Duration.parse(values.getOrDefault("duration", "PT60S")),
+                values.getOrDefault("read-model", "entity"),
+                Path.of(values.getOrDefault("baseline", "src/loadtest/baseline.csv")),
+                Double.parseDouble(values.getOrDefault("tolerance", "0.25")),
+                Boolean.parseBoolean(values.getOrDefault("write-baseline", "false")),
+                Boolean.parseBoolean(values.getOrDefault("fail-on-regression", "true")));
+
+        if (options.tagsPerItem() > options.tags()) {
+            throw new IllegalArgumentException("tags-per-item no puede ser mayor que tags");
+        }
+        return options;
+    }
+
+    /**
+     * Descripción del dataset y de la carga; la comparación con la referencia solo tiene sentido si coinciden.
+     */
+    String profile() {
+        return "persons=%d tags=%d items=%d tags-per-item=%d rps=%d read-model=%s"
+                .formatted(this.persons, this.tags, this.items, this.tagsPerItem, this.rps, this.readModel);
+    }
+}
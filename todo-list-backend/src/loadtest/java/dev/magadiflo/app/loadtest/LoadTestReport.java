@@ -0,0 +1,149 @@
+package dev.magadiflo.app.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resultados por endpoint: throughput y percentiles p50/p99/p999 en milisegundos. Se imprimen como tabla, se
+ * guardan en CSV junto con los histogramas completos (.hgrm, para graficarlos con HistogramLogAnalyzer o el
+ * plotter de HdrHistogram) y se comparan con un archivo de referencia que tiene el mismo formato que el CSV.
+ */
+final class LoadTestReport {
+
+    private static final String HEADER = "operation,count,throughput,p50_ms,p99_ms,p999_ms";
+    private static final String PROFILE_PREFIX = "# ";
+    // Por debajo de esta diferencia absoluta no se informa una regresión, aunque supere la tolerancia relativa
+    private static final double MIN_REGRESSION_MS = 1.0;
+
+    private final LoadTestOptions options;
+    private final List<EndpointResult> results = new ArrayList<>();
+    private final long dropped;
+
+    LoadTestReport(LoadTestOptions options, List<EndpointMetrics> metrics, long elapsedNanos, long dropped,
+                   Path outputDirectory) throws IOException {
+        this.options = options;
+        this.dropped = dropped;
+
+        Files.createDirectories(outputDirectory);
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        for (EndpointMetrics endpointMetrics : metrics) {
+            Histogram histogram = endpointMetrics.histogram();
+            this.results.add(new EndpointResult(endpointMetrics.name(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / elapsedSeconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0,
+                    endpointMetrics.errors()));
+
+            Path hgrm = outputDirectory.resolve(fileName(endpointMetrics.name()) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    void print(PrintStream out) {
+        out.println();
+        out.println("Prueba de carga: " + this.options.profile());
+        out.printf(Locale.ROOT, "%-40s %8s %9s %9s %9s %9s %9s %s%n",
+                "operación", "count", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errores");
+        for (EndpointResult result : this.results) {
+            out.printf(Locale.ROOT, "%-40s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %s%n",
+                    result.operation(), result.count(), result.throughput(), result.p50(), result.p99(),
+                    result.p999(), result.max(), result.errors().isEmpty() ? "-" : result.errors());
+        }
+        if (this.dropped > 0) {
+            out.printf("Peticiones descartadas por superar max-in-flight: %d (la aplicación no sostiene %d req/s)%n",
+                    this.dropped, this.options.rps());
+        }
+    }
+
+    void write(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(PROFILE_PREFIX + this.options.profile());
+        lines.add(HEADER);
+        for (EndpointResult result : this.results) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%.1f,%.2f,%.2f,%.2f", result.operation(), result.count(),
+                    result.throughput(), result.p50(), result.p99(), result.p999()));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines);
+    }
+
+    /**
+     * Compara el p99 de cada endpoint con la referencia.
+     *
+     * @return true si algún endpoint supera la tolerancia
+     */
+    boolean compare(Path baseline, PrintStream out) throws IOException {
+        if (!Files.exists(baseline)) {
+            out.println("No existe el archivo de referencia " + baseline + "; se puede crear con --write-baseline=true");
+            return false;
+        }
+
+        List<String> lines = Files.readAllLines(baseline);
+        Optional<String> profile = lines.stream()
+                .filter(line -> line.startsWith(PROFILE_PREFIX))
+                .map(line -> line.substring(PROFILE_PREFIX.length()))
+                .findFirst();
+        if (profile.isEmpty() || !profile.get().equals(this.options.profile())) {
+            out.println("La referencia " + baseline + " se generó con otro dataset o carga (" +
+                        profile.orElse("sin perfil") + "); no se compara");
+            return false;
+        }
+
+        Map<String, EndpointResult> expected = new LinkedHashMap<>();
+        lines.stream()
+                .filter(line -> !line.startsWith(PROFILE_PREFIX) && !line.equals(HEADER) && !line.isBlank())
+                .map(EndpointResult::parse)
+                .forEach(result -> expected.put(result.operation(), result));
+
+        boolean regression = false;
+        out.println();
+        out.printf("Comparación con %s (tolerancia p99 +%.0f%%)%n", baseline, this.options.tolerance() * 100);
+        out.printf(Locale.ROOT, "%-40s %12s %12s %9s%n", "operación", "p99 ref ms", "p99 ms", "cambio");
+        for (EndpointResult result : this.results) {
+            EndpointResult reference = expected.get(result.operation());
+            if (reference == null) {
+                out.printf("%-40s %12s %12.2f %9s%n", result.operation(), "-", result.p99(), "nuevo");
+                continue;
+            }
+            double change = reference.p99() == 0 ? 0 : (result.p99() - reference.p99()) / reference.p99();
+            boolean endpointRegression = change > this.options.tolerance() &&
+                                         result.p99() - reference.p99() > MIN_REGRESSION_MS;
+            regression |= endpointRegression;
+            out.printf(Locale.ROOT, "%-40s %12.2f %12.2f %+8.1f%%%s%n", result.operation(), reference.p99(),
+                    result.p99(), change * 100, endpointRegression ? "  REGRESIÓN" : "");
+        }
+        return regression;
+    }
+
+    private static String fileName(String operation) {
+        return operation.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+
+    private record EndpointResult(String operation, long count, double throughput, double p50, double p99,
+                                  double p999, double max, Map<String, Long> errors) {
+
+        static EndpointResult parse(String line) {
+            String[] columns = line.split(",");
+            return new EndpointResult(columns[0], Long.parseLong(columns[1]), Double.parseDouble(columns[2]),
+                    Double.parseDouble(columns[3]), Double.parseDouble(columns[4]), Double.parseDouble(columns[5]),
+                    0, Map.of());
+        }
+    }
+}
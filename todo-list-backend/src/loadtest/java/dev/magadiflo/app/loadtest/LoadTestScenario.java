@@ -0,0 +1,278 @@
+package dev.magadiflo.app.loadtest;
+
+import dev.magadiflo.app.model.dto.ItemPatchResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.dto.NewItemResource;
+import dev.magadiflo.app.model.enums.ItemStatus;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Tráfico mixto de lectura y escritura contra ItemController, PersonController y TagController.
+ * <p>
+ * La carga es de lazo abierto: cada {@code 1/rps} segundos se lanza una petición sin esperar a que terminen las
+ * anteriores, y la latencia se mide desde el instante en que debía lanzarse. Así, si la aplicación se atrasa, el
+ * tiempo de espera aparece en los percentiles en lugar de bajar el ritmo de la carga (omisión coordinada).
+ * <p>
+ * Las escrituras solo tocan items creados por la propia prueba: PATCH y DELETE toman un item de la cola con su
+ * versión, y PATCH lo devuelve con la versión nueva, de modo que dos peticiones no compiten por el mismo item.
+ */
+final class LoadTestScenario {
+
+    private static final ItemStatus[] STATUSES = ItemStatus.values();
+
+    private final WebClient webClient;
+    private final LoadTestDataset dataset;
+    private final LoadTestOptions options;
+    private final ConnectionProvider connectionProvider;
+    private final List<Operation> operations = new ArrayList<>();
+    private final Deque<OwnedItem> ownedItems = new ConcurrentLinkedDeque<>();
+    private final LongAdder dropped = new LongAdder();
+    private int totalWeight;
+
+    LoadTestScenario(int port, LoadTestDataset dataset, LoadTestOptions options) {
+        this.dataset = dataset;
+        this.options = options;
+        this.connectionProvider = ConnectionProvider.builder("loadtest")
+                .maxConnections(options.maxInFlight())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(this.connectionProvider)))
+                .build();
+
+        this.operation("GET /api/v1/items/page", 20, this::findItemPage);
+        this.operation("GET /api/v1/items/page?status&tagId", 10, this::findItemPageByStatusAndTag);
+        this.operation("GET /api/v1/items?assigneeId (SSE)", 5, this::findItemsByAssignee);
+        this.operation("GET /api/v1/items/{id}", 25, this::findItem);
+        this.operation("GET /api/v1/items/aggregates", 5, this::findItemAggregates);
+        this.operation("GET /api/v1/persons/{id}", 10, this::findPerson);
+        this.operation("GET /api/v1/tags (SSE)", 5, this::findAllTags);
+        this.operation("GET /api/v1/tags/{id}", 5, this::findTag);
+        this.operation("POST /api/v1/items", 8, this::createItem);
+        this.operation("PATCH /api/v1/items/{id}", 5, this::patchItem);
+        this.operation("DELETE /api/v1/items/{id}", 2, this::deleteItem);
+    }
+
+    List<EndpointMetrics> metrics() {
+        return this.operations.stream().map(Operation::metrics).toList();
+    }
+
+    long dropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Envía carga durante el tiempo indicado y espera a que terminen las peticiones en curso.
+     *
+     * @return nanosegundos transcurridos
+     */
+    long run(Duration duration) {
+        long periodNanos = 1_000_000_000L / this.options.rps();
+        long start = System.nanoTime();
+        Flux.interval(Duration.ofNanos(periodNanos))
+                .onBackpressureDrop(tick -> this.dropped.increment())
+                .take(duration)
+                .flatMap(tick -> this.execute(this.pickOperation(), start + (tick + 1) * periodNanos), this.options.maxInFlight())
+                .blockLast();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Descarta las métricas registradas hasta ahora (calentamiento).
+     */
+    void reset() {
+        this.operations.forEach(operation -> operation.metrics().reset());
+        this.dropped.reset();
+    }
+
+    void close() {
+        this.connectionProvider.dispose();
+    }
+
+    private Mono<Void> execute(Operation operation, long intendedStart) {
+        EndpointMetrics metrics = operation.metrics();
+        return Mono.defer(operation.request())
+                .doOnNext(status -> {
+                    metrics.recordLatency(System.nanoTime() - intendedStart);
+                    if (status.isError()) {
+                        metrics.recordError(String.valueOf(status.value()));
+                    }
+                })
+                .onErrorResume(throwable -> {
+                    metrics.recordLatency(System.nanoTime() - intendedStart);
+                    metrics.recordError(throwable.getClass().getSimpleName());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<HttpStatusCode> findItemPage() {
+        return this.webClient.get()
+                .uri("/api/v1/items/page?limit=50")
+                .exchangeToMono(this::drain);
+    }
+
+    private Mono<HttpStatusCode> findItemPageByStatusAndTag() {
+        return this.webClient.get()
+                .uri("/api/v1/items/page?limit=50&status={status}&tagId={tagId}", this.randomStatus(), this.randomTagId())
+                .exchangeToMono(this::drain);
+    }
+
+    private Mono<HttpStatusCode> findItemsByAssignee() {
+        return this.webClient.get()
+                .uri("/api/v1/items?assigneeId={assigneeId}", this.randomPersonId())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchangeToMono(this::drain);
+    }
+
+    private Mono<HttpStatusCode> findItem() {
+        long itemId = this.random(this.dataset.minItemId(), this.dataset.maxItemId());
+        return this.webClient.get()
+                .uri("/api/v1/items/{itemId}?loadRelations=true", itemId)
+                .exchangeToMono(this::drain);
+    }
+
+    private Mono<HttpStatusCode> findItemAggregates() {
+        return this.webClient.get()
+                .uri("/api/v1/items/aggregates")
+                .exchangeToMono(this::drain);
+    }
+
+    private Mono<HttpStatusCode> findPerson() {
+        return this.webClient.get()
+                .uri("/api/v1/persons/{personId}", this.randomPersonId())
+                .exchangeToMono(this::drain);
+    }
+
+    private Mono<HttpStatusCode> findAllTags() {
+        return this.webClient.get()
+                .uri("/api/v1/tags")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchangeToMono(this::drain);
+    }
+
+    private Mono<HttpStatusCode> findTag() {
+        return this.webClient.get()
+                .uri("/api/v1/tags/{tagId}", this.randomTagId())
+                .exchangeToMono(this::drain);
+    }
+
+    private Mono<HttpStatusCode> createItem() {
+        NewItemResource newItemResource = NewItemResource.builder()
+                .description("Item creado por la prueba de carga")
+                .assigneeId(this.randomPersonId())
+                .tagIds(Set.of(this.randomTagId()))
+                .build();
+        return this.webClient.post()
+                .uri("/api/v1/items")
+                .bodyValue(newItemResource)
+                .exchangeToMono(response -> response.statusCode().isSameCodeAs(HttpStatus.CREATED) ?
+                        this.keep(response) :
+                        this.drain(response));
+    }
+
+    private Mono<HttpStatusCode> patchItem() {
+        OwnedItem ownedItem = this.ownedItems.pollFirst();
+        if (ownedItem == null) {
+            return Mono.empty();
+        }
+        ItemPatchResource itemPatchResource = ItemPatchResource.builder()
+                .status(this.randomStatus())
+                .build();
+        return this.webClient.patch()
+                .uri("/api/v1/items/{itemId}", ownedItem.id())
+                .header(HttpHeaders.IF_MATCH, String.valueOf(ownedItem.version()))
+                .bodyValue(itemPatchResource)
+                .exchangeToMono(response -> response.statusCode().is2xxSuccessful() ?
+                        this.keep(response) :
+                        this.drain(response));
+    }
+
+    private Mono<HttpStatusCode> deleteItem() {
+        OwnedItem ownedItem = this.ownedItems.pollFirst();
+        if (ownedItem == null) {
+            return Mono.empty();
+        }
+        return this.webClient.delete()
+                .uri("/api/v1/items/{itemId}", ownedItem.id())
+                .header(HttpHeaders.IF_MATCH, String.valueOf(ownedItem.version()))
+                .exchangeToMono(this::drain);
+    }
+
+    /**
+     * Lee el cuerpo completo sin deserializarlo, para medir la transferencia sin sumar el costo de Jackson en el
+     * cliente.
+     */
+    private Mono<HttpStatusCode> drain(ClientResponse response) {
+        return response.bodyToFlux(DataBuffer.class)
+                .doOnNext(DataBufferUtils::release)
+                .then(Mono.just(response.statusCode()));
+    }
+
+    private Mono<HttpStatusCode> keep(ClientResponse response) {
+        return response.bodyToMono(ItemResource.class)
+                .doOnNext(itemResource -> this.ownedItems.offerLast(new OwnedItem(itemResource.getId(), itemResource.getVersion())))
+                .thenReturn(response.statusCode());
+    }
+
+    private void operation(String name, int weight, Supplier<Mono<HttpStatusCode>> request) {
+        this.operations.add(new Operation(new EndpointMetrics(name), weight, request));
+        this.totalWeight += weight;
+    }
+
+    private Operation pickOperation() {
+        int value = ThreadLocalRandom.current().nextInt(this.totalWeight);
+        for (Operation operation : this.operations) {
+            value -= operation.weight();
+            if (value < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Pesos de operaciones no válidos");
+    }
+
+    private long randomPersonId() {
+        return this.random(this.dataset.minPersonId(), this.dataset.maxPersonId());
+    }
+
+    private long randomTagId() {
+        return this.random(this.dataset.minTagId(), this.dataset.maxTagId());
+    }
+
+    private ItemStatus randomStatus() {
+        return STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+    }
+
+    private long random(long min, long max) {
+        return ThreadLocalRandom.current().nextLong(min, max + 1);
+    }
+
+    private record Operation(EndpointMetrics metrics, int weight, Supplier<Mono<HttpStatusCode>> request) {
+    }
+
+    private record OwnedItem(Long id, Long version) {
+    }
+}
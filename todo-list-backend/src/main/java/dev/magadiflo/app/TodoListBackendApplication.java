@@ -1,10 +1,17 @@
 package dev.magadiflo.app;
 
+import dev.magadiflo.app.config.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableR2dbcAuditing
+@ConfigurationPropertiesScan
+@EnableScheduling
+@ImportRuntimeHints(NativeImageHints.class)
 @SpringBootApplication
 public class TodoListBackendApplication {
 
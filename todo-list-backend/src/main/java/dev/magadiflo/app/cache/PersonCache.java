@@ -0,0 +1,61 @@
+package dev.magadiflo.app.cache;
+
+import dev.magadiflo.app.config.ReferenceDataCacheProperties;
+import dev.magadiflo.app.model.entity.Person;
+import dev.magadiflo.app.repository.PersonRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Component
+public class PersonCache extends ReferenceDataCache<Person> {
+
+    // Los nombres de los campos por lo que se ordenarán son los nombres de los campos de la base de datos.
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.by("first_name"), Sort.Order.by("last_name"));
+
+    private final PersonRepository personRepository;
+
+    public PersonCache(PersonRepository personRepository, ReferenceDataCacheProperties properties) {
+        super("persons", properties);
+        this.personRepository = personRepository;
+    }
+
+    @Override
+    protected Mono<Person> loadById(Long id) {
+        return this.personRepository.findById(id);
+    }
+
+    @Override
+    protected Flux<Person> loadAllById(Set<Long> ids) {
+        return this.personRepository.findAllById(ids);
+    }
+
+    @Override
+    protected Flux<Person> loadAll() {
+        return this.personRepository.findAll(DEFAULT_SORT);
+    }
+
+    @Override
+    protected Flux<Person> loadModifiedSince(LocalDateTime lastModifiedDate) {
+        return this.personRepository.findAllByLastModifiedDateGreaterThanEqual(lastModifiedDate);
+    }
+
+    @Override
+    protected Long idOf(Person person) {
+        return person.getId();
+    }
+
+    @Override
+    protected Long versionOf(Person person) {
+        return person.getVersion();
+    }
+
+    @Override
+    protected LocalDateTime lastModifiedDateOf(Person person) {
+        return person.getLastModifiedDate();
+    }
+}
@@ -0,0 +1,154 @@
+package dev.magadiflo.app.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.magadiflo.app.config.ReferenceDataCacheProperties;
+import dev.magadiflo.app.replica.ReadReplicaConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Caché en memoria, acotada y con expiración, para tablas pequeñas que cambian poco (persons, tags). Las entradas se
+ * cargan de forma asíncrona desde el repositorio y se invalidan comparando su {@code version} con las filas cuyo
+ * {@code last_modified_date} cambió desde la última revisión (ver {@link #invalidateModified()}).
+ * <p>
+ * Las entradas que faltan se cargan por un camino propio, fuera de la transacción y del contexto de Reactor de quien
+ * las pidió, y siempre desde la base de datos principal: la carga es compartida por todos los que esperan esa entrada,
+ * así que no debe depender de la conexión ni del enrutamiento de ninguno de ellos. Si dos suscriptores piden la misma
+ * entrada a la vez, el segundo espera la carga que inició el primero; que uno cancele no cancela la carga.
+ * <p>
+ * Las estadísticas de ambas cachés se publican en Micrometer como {@code cache.*} con el tag {@code cache} igual a
+ * {@code <name>} y {@code <name>.all}.
+ *
+ * @param <T> entidad cacheada
+ */
+@Slf4j
+public abstract class ReferenceDataCache<T> implements MeterBinder {
+
+    private static final String ALL = "all";
+
+    private final String name;
+    private final AsyncCache<Long, T> entries;
+    private final AsyncCache<String, List<T>> all;
+    private volatile LocalDateTime lastModifiedDateWatermark;
+
+    protected ReferenceDataCache(String name, ReferenceDataCacheProperties properties) {
+        this.name = name;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .buildAsync();
+        this.all = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .buildAsync();
+        this.lastModifiedDateWatermark = LocalDateTime.now().minus(properties.getTimeToLive());
+    }
+
+    public Mono<T> findById(Long id) {
+        return Mono.fromFuture(() -> this.entries.get(id, (key, executor) -> this.load(this.loadById(key))), true);
+    }
+
+    public Mono<Map<Long, T>> findAllById(Collection<Long> ids) {
+        return this.findAllById(ids, () -> {
+        });
+    }
+
+    /**
+     * Igual que {@link #findAllById(Collection)}, pero invoca {@code onLoad} si alguna entrada no estaba en la caché
+     * y hubo que consultarla (una sola consulta para todas las que faltaban).
+     */
+    public Mono<Map<Long, T>> findAllById(Collection<Long> ids, Runnable onLoad) {
+        if (ids.isEmpty()) return Mono.just(Map.of());
+        return Mono.fromFuture(() -> this.entries.getAll(ids, (missingIds, executor) -> {
+            onLoad.run();
+            return this.load(this.loadAllById(new HashSet<>(missingIds)).collectMap(this::idOf));
+        }), true);
+    }
+
+    public Flux<T> findAll() {
+        return Mono.fromFuture(() -> this.all.get(ALL, (key, executor) -> this.load(this.loadAll().collectList())), true)
+                .flatMapIterable(values -> values);
+    }
+
+    /**
+     * Invalida las entradas cuya fila fue modificada desde la última revisión y tiene una versión distinta a la
+     * cacheada. Si hubo cambios también se descarta el listado completo.
+     */
+    public Mono<Void> invalidateModified() {
+        LocalDateTime since = this.lastModifiedDateWatermark;
+        return this.loadModifiedSince(since)
+                .collectList()
+                .doOnNext(modified -> {
+                    modified.forEach(this::invalidateIfStale);
+                    modified.stream()
+                            .map(this::lastModifiedDateOf)
+                            .max(Comparator.naturalOrder())
+                            .ifPresent(max -> this.lastModifiedDateWatermark = max);
+                    if (!modified.isEmpty()) {
+                        this.all.synchronous().invalidateAll();
+                        log.debug("Caché {}: {} filas modificadas desde {}", this.name, modified.size(), since);
+                    }
+                })
+                .then();
+    }
+
+    public void invalidateAll() {
+        this.entries.synchronous().invalidateAll();
+        this.all.synchronous().invalidateAll();
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    public CacheStats stats() {
+        return this.entries.synchronous().stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.entries, this.name);
+        CaffeineCacheMetrics.monitor(registry, this.all, this.name + "." + ALL);
+    }
+
+    // Se suscribe con un contexto nuevo: sin la transacción de quien pidió la entrada y marcado para usar la principal
+    private <R> CompletableFuture<R> load(Mono<R> loader) {
+        return loader.contextWrite(ReadReplicaConnectionFactory::primary).toFuture();
+    }
+
+    private void invalidateIfStale(T modified) {
+        CompletableFuture<T> cached = this.entries.getIfPresent(this.idOf(modified));
+        if (cached == null) return;
+
+        T cachedValue = cached.getNow(null);
+        if (cachedValue == null || !Objects.equals(this.versionOf(cachedValue), this.versionOf(modified))) {
+            this.entries.synchronous().invalidate(this.idOf(modified));
+        }
+    }
+
+    protected abstract Mono<T> loadById(Long id);
+
+    protected abstract Flux<T> loadAllById(Set<Long> ids);
+
+    protected abstract Flux<T> loadAll();
+
+    protected abstract Flux<T> loadModifiedSince(LocalDateTime lastModifiedDate);
+
+    protected abstract Long idOf(T value);
+
+    protected abstract Long versionOf(T value);
+
+    protected abstract LocalDateTime lastModifiedDateOf(T value);
+}
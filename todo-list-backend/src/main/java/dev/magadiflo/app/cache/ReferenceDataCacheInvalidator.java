@@ -0,0 +1,30 @@
+package dev.magadiflo.app.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ReferenceDataCacheInvalidator {
+
+    private final List<ReferenceDataCache<?>> caches;
+
+    @Scheduled(fixedDelayString = "${app.cache.reference-data.invalidation-interval:PT30S}")
+    public Mono<Void> invalidateModified() {
+        return Flux.fromIterable(this.caches)
+                .concatMap(cache -> cache.invalidateModified()
+                        .doOnSuccess(unused -> log.debug("Caché {}: {}", cache.name(), cache.stats()))
+                        .onErrorResume(throwable -> {
+                            log.warn("No se pudo revisar la caché {}: {}", cache.name(), throwable.getMessage());
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+}
@@ -0,0 +1,60 @@
+package dev.magadiflo.app.cache;
+
+import dev.magadiflo.app.config.ReferenceDataCacheProperties;
+import dev.magadiflo.app.model.entity.Tag;
+import dev.magadiflo.app.repository.TagRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Component
+public class TagCache extends ReferenceDataCache<Tag> {
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.by("name"));
+
+    private final TagRepository tagRepository;
+
+    public TagCache(TagRepository tagRepository, ReferenceDataCacheProperties properties) {
+        super("tags", properties);
+        this.tagRepository = tagRepository;
+    }
+
+    @Override
+    protected Mono<Tag> loadById(Long id) {
+        return this.tagRepository.findById(id);
+    }
+
+    @Override
+    protected Flux<Tag> loadAllById(Set<Long> ids) {
+        return this.tagRepository.findAllById(ids);
+    }
+
+    @Override
+    protected Flux<Tag> loadAll() {
+        return this.tagRepository.findAll(DEFAULT_SORT);
+    }
+
+    @Override
+    protected Flux<Tag> loadModifiedSince(LocalDateTime lastModifiedDate) {
+        return this.tagRepository.findAllByLastModifiedDateGreaterThanEqual(lastModifiedDate);
+    }
+
+    @Override
+    protected Long idOf(Tag tag) {
+        return tag.getId();
+    }
+
+    @Override
+    protected Long versionOf(Tag tag) {
+        return tag.getVersion();
+    }
+
+    @Override
+    protected LocalDateTime lastModifiedDateOf(Tag tag) {
+        return tag.getLastModifiedDate();
+    }
+}
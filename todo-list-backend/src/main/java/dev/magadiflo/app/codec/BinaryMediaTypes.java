@@ -0,0 +1,27 @@
+package dev.magadiflo.app.codec;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Tipos de contenido de las codificaciones binarias que acepta la API además de JSON. Smile y CBOR representan los
+ * mismos objetos que JSON, con los nombres de campo y los valores en binario, así que un cliente usa los mismos DTOs.
+ */
+public final class BinaryMediaTypes {
+
+    // Smile: un solo valor o, para un Flux, un arreglo
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    // Smile en streaming: un valor tras otro, cada uno escrito a medida que llega
+    public static final String SMILE_STREAM_VALUE = "application/stream+x-jackson-smile";
+    // CBOR: un solo valor o, para un Flux, un arreglo
+    public static final String CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    // Secuencia CBOR (RFC 8742): un valor tras otro, el equivalente binario de NDJSON
+    public static final String CBOR_SEQUENCE_VALUE = "application/cbor-seq";
+
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+    public static final MediaType SMILE_STREAM = MediaType.parseMediaType(SMILE_STREAM_VALUE);
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType CBOR_SEQUENCE = MediaType.parseMediaType(CBOR_SEQUENCE_VALUE);
+
+    private BinaryMediaTypes() {
+    }
+}
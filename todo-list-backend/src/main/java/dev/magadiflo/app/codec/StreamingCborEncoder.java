@@ -0,0 +1,31 @@
+package dev.magadiflo.app.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+import java.util.List;
+
+/**
+ * Encoder CBOR que, a diferencia de {@link Jackson2CborEncoder}, también escribe un Flux: como arreglo con
+ * application/cbor y como secuencia CBOR con application/cbor-seq, un valor tras otro y sin separador porque cada
+ * valor CBOR indica dónde termina.
+ */
+public class StreamingCborEncoder extends AbstractJackson2Encoder {
+
+    private static final byte[] NO_SEPARATOR = new byte[0];
+
+    public StreamingCborEncoder(ObjectMapper objectMapper) {
+        super(objectMapper, BinaryMediaTypes.CBOR, BinaryMediaTypes.CBOR_SEQUENCE);
+        Assert.isAssignable(CBORFactory.class, objectMapper.getFactory().getClass());
+        setStreamingMediaTypes(List.of(BinaryMediaTypes.CBOR_SEQUENCE));
+    }
+
+    @Override
+    protected byte[] getStreamingMediaTypeSeparator(MimeType mimeType) {
+        return NO_SEPARATOR;
+    }
+}
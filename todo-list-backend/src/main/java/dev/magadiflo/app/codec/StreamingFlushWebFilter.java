@@ -0,0 +1,70 @@
+package dev.magadiflo.app.codec;
+
+import dev.magadiflo.app.config.StreamingResponseProperties;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux hace un flush por cada elemento de una respuesta en streaming (NDJSON, Smile, secuencia CBOR). Con la
+ * compresión activa cada flush además cierra un bloque de deflate, así que enviar los items de a uno cuesta una
+ * escritura al socket por item y comprime peor. Este filtro agrupa hasta {@code flush-max-items} elementos, o los que
+ * lleguen en {@code flush-interval}, en cada flush: la respuesta sigue saliendo a medida que se genera.
+ * <p>
+ * SSE se deja como está porque sus clientes esperan cada evento en cuanto ocurre (el feed de cambios).
+ * También agrega {@code Vary: Accept}, ya que la misma URL responde JSON, Smile o CBOR según esa cabecera.
+ */
+@RequiredArgsConstructor
+@Component
+public class StreamingFlushWebFilter implements WebFilter {
+
+    private final StreamingResponseProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.beforeCommit(() -> {
+            response.getHeaders().addIfAbsent(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            return Mono.empty();
+        });
+        if (!this.properties.isCoalesceFlushes()) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate().response(new CoalescingResponse(response)).build());
+    }
+
+    private class CoalescingResponse extends ServerHttpResponseDecorator {
+
+        CoalescingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            if (MediaType.TEXT_EVENT_STREAM.isCompatibleWith(getHeaders().getContentType())) {
+                return super.writeAndFlushWith(body);
+            }
+            StreamingResponseProperties properties = StreamingFlushWebFilter.this.properties;
+            Flux<Flux<DataBuffer>> groups = Flux.from(body)
+                    .concatMap(Flux::from)
+                    .<DataBuffer>map(dataBuffer -> dataBuffer)
+                    // Con backpressure justo el grupo que vence por tiempo espera a que el cliente lo pida; sin ella
+                    // un cliente lento hace fallar la respuesta con Overflow
+                    .bufferTimeout(properties.getFlushMaxItems(), properties.getFlushInterval(), true)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .map(Flux::fromIterable);
+            return super.writeAndFlushWith(groups);
+        }
+    }
+}
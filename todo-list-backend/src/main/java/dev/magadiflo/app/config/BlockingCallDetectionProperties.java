@@ -0,0 +1,25 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.blocking-detection")
+public class BlockingCallDetectionProperties {
+    // Instala BlockHound al arrancar; la JVM debe iniciarse con -XX:+AllowRedefinitionToAddDeleteMethods.
+    private boolean enabled = false;
+    // FAIL: la llamada bloqueante lanza BlockingOperationError; LOG: solo se registra con su stack trace.
+    private Mode mode = Mode.FAIL;
+    // Métodos (clase#método) dentro de los cuales se permite bloquear, además de los que ya admite la aplicación.
+    private List<String> allowed = new ArrayList<>();
+
+    public enum Mode {
+        FAIL,
+        LOG
+    }
+}
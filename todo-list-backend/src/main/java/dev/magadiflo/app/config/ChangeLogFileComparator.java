@@ -0,0 +1,27 @@
+package dev.magadiflo.app.config;
+
+import java.util.Comparator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Orden de los changelogs incluidos con {@code includeAll}: por el número con el que empieza el nombre del archivo
+ * ({@code 1_...}, {@code 2_...}, {@code 10_...}) y no alfabéticamente, que ubicaría {@code 10_...} antes que
+ * {@code 1_...}. Liquibase lo instancia por reflexión, por eso necesita un constructor público sin argumentos.
+ */
+public class ChangeLogFileComparator implements Comparator<String> {
+
+    private static final Pattern NUMBER_PREFIX = Pattern.compile("^(\\d+)_");
+
+    @Override
+    public int compare(String path1, String path2) {
+        int byNumber = Long.compare(numberOf(path1), numberOf(path2));
+        return byNumber != 0 ? byNumber : path1.compareTo(path2);
+    }
+
+    private static long numberOf(String path) {
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        Matcher matcher = NUMBER_PREFIX.matcher(fileName);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,43 @@
+package dev.magadiflo.app.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.magadiflo.app.codec.BinaryMediaTypes;
+import dev.magadiflo.app.codec.StreamingCborEncoder;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+
+/**
+ * Codecs de Smile y CBOR además de JSON, elegidos por la cabecera Accept (respuestas) y Content-Type (peticiones).
+ * Sus ObjectMapper salen del mismo {@link Jackson2ObjectMapperBuilder} que el de JSON, así que los tres escriben
+ * los mismos campos con los mismos formatos (fechas ISO, nulos omitidos, ...); solo cambia la codificación.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CodecConfig {
+
+    private static final MimeType[] SMILE_MIME_TYPES = {BinaryMediaTypes.SMILE, MimeType.valueOf("application/*+x-jackson-smile")};
+
+    @Bean
+    public CodecCustomizer binaryCodecsCustomizer(Jackson2ObjectMapperBuilder objectMapperBuilder, ObjectMapper objectMapper) {
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        return configurer -> {
+            // Con un ObjectMapper propio los codecs no toman tipos de contenido por defecto, hay que indicarlos
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE_MIME_TYPES));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE_MIME_TYPES));
+            // Los codecs propios se consultan antes que los predeterminados y, con Accept: */*, gana el primero que
+            // puede escribir la respuesta: JSON se registra también aquí para que siga siendo la opción por defecto.
+            configurer.customCodecs().register(new Jackson2JsonEncoder(objectMapper));
+            configurer.customCodecs().register(new StreamingCborEncoder(cborMapper));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper, BinaryMediaTypes.CBOR));
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.items.archive")
+public class ItemArchiveProperties {
+    // Mueve periódicamente los items DONE antiguos a items_archive.
+    private boolean enabled = false;
+    // Antigüedad (desde la última modificación) a partir de la cual un item DONE se archiva.
+    private Duration minAge = Duration.ofDays(90);
+    // Items que se mueven por transacción.
+    private int chunkSize = 1000;
+    // Transacciones como máximo en cada ejecución; lo que quede se archiva en la siguiente.
+    private int maxChunksPerRun = 100;
+}
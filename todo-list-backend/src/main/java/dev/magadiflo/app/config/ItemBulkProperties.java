@@ -0,0 +1,13 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.items.bulk")
+public class ItemBulkProperties {
+    // Cantidad de items que se escriben por transacción y por sentencia.
+    private int chunkSize = 500;
+}
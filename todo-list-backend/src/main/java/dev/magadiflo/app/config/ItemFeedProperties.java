@@ -0,0 +1,17 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.items.feed")
+public class ItemFeedProperties {
+    // Notificaciones (cada una con hasta 300 eventos) que se acumulan por suscriptor antes de desconectarlo por ser demasiado lento.
+    private int subscriberBufferSize = 32;
+    private Duration reconnectMinBackoff = Duration.ofSeconds(1);
+    private Duration reconnectMaxBackoff = Duration.ofSeconds(30);
+}
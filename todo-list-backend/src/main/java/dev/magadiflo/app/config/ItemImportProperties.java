@@ -0,0 +1,16 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.items.import")
+public class ItemImportProperties {
+    // Filas que se escriben por transacción con COPY.
+    private int chunkSize = 5000;
+    // Tamaño máximo de un registro del archivo; evita acumular en memoria una línea o un campo sin cerrar.
+    private DataSize maxRecordSize = DataSize.ofKilobytes(64);
+}
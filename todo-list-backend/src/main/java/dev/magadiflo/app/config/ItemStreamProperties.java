@@ -0,0 +1,13 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.items.stream")
+public class ItemStreamProperties {
+    // Filas que se leen de la base de datos por viaje al enviar listados de items en streaming (SSE, NDJSON, JSON).
+    private int fetchSize = 250;
+}
@@ -0,0 +1,20 @@
+package dev.magadiflo.app.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ejecución de Liquibase al arrancar según {@code app.liquibase.startup-mode}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LiquibaseConfig {
+
+    // static: un BeanPostProcessor no debe obligar a crear antes de tiempo la configuración que lo declara
+    @Bean
+    public static LiquibaseStartupPostProcessor liquibaseStartupPostProcessor(ObjectProvider<LiquibaseStartupProperties> properties,
+                                                                              ObjectProvider<ConnectionFactory> connectionFactory) {
+        return new LiquibaseStartupPostProcessor(properties, connectionFactory);
+    }
+}
@@ -0,0 +1,178 @@
+package dev.magadiflo.app.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decide si el {@link SpringLiquibase} que arma Spring Boot se ejecuta al arrancar, según
+ * {@code app.liquibase.startup-mode}. Ejecutarlo siempre cuesta una conexión JDBC aparte, el lock de Liquibase y
+ * leer todo el changelog aunque no haya nada nuevo que aplicar.
+ * <p>
+ * Con {@code IF_CHANGED} se calcula una huella (SHA-256) de los archivos del directorio del changelog maestro. Después
+ * de cada actualización la huella se guarda como tag de la última fila de DATABASECHANGELOG, igual que lo haría
+ * {@code tagDatabase}; en los siguientes arranques, si ese tag ya existe, Liquibase no se ejecuta. La comprobación es
+ * una sola consulta por R2DBC, con el pool que la aplicación usará de todos modos. Si no se puede hacer (base de datos
+ * nueva, tabla inexistente, timeout) Liquibase se ejecuta como siempre.
+ */
+@Slf4j
+public class LiquibaseStartupPostProcessor implements BeanPostProcessor {
+
+    private static final String TAG_PREFIX = "changelog-";
+
+    private final ObjectProvider<LiquibaseStartupProperties> properties;
+    private final ObjectProvider<ConnectionFactory> connectionFactory;
+    // Por cada SpringLiquibase que se ejecuta: cuándo empezó y el tag que se le asigna al terminar (si corresponde)
+    private final Map<String, Long> updateStartNanos = new HashMap<>();
+    private final Map<String, String> pendingTags = new HashMap<>();
+
+    public LiquibaseStartupPostProcessor(ObjectProvider<LiquibaseStartupProperties> properties,
+                                         ObjectProvider<ConnectionFactory> connectionFactory) {
+        this.properties = properties;
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (!(bean instanceof SpringLiquibase liquibase)) {
+            return bean;
+        }
+
+        LiquibaseStartupProperties startupProperties = this.properties.getObject();
+        switch (startupProperties.getStartupMode()) {
+            case SKIP -> {
+                liquibase.setShouldRun(false);
+                log.info("Liquibase no se ejecuta (app.liquibase.startup-mode=skip)");
+                return bean;
+            }
+            case IF_CHANGED -> {
+                long startNanos = System.nanoTime();
+                String tag = fingerprint(liquibase.getChangeLog());
+                if (tag != null && this.isApplied(liquibase, tag, startupProperties)) {
+                    liquibase.setShouldRun(false);
+                    log.info("Liquibase omitido: el changelog {} ya está aplicado (comprobado en {} ms)", tag,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                    return bean;
+                }
+                if (tag != null) {
+                    this.pendingTags.put(beanName, tag);
+                }
+            }
+            case ALWAYS -> {
+            }
+        }
+        this.updateStartNanos.put(beanName, System.nanoTime());
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Long startNanos = this.updateStartNanos.remove(beanName);
+        if (!(bean instanceof SpringLiquibase liquibase) || startNanos == null) {
+            return bean;
+        }
+
+        log.info("Liquibase ejecutado en {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        String tag = this.pendingTags.remove(beanName);
+        if (tag != null) {
+            this.tagLastChangeSet(liquibase, tag, this.properties.getObject());
+        }
+        return bean;
+    }
+
+    private boolean isApplied(SpringLiquibase liquibase, String tag, LiquibaseStartupProperties startupProperties) {
+        String sql = "SELECT 1 FROM %s WHERE tag = :tag".formatted(changeLogTable(liquibase));
+        try {
+            return Boolean.TRUE.equals(this.databaseClient().sql(sql)
+                    .bind("tag", tag)
+                    .fetch()
+                    .first()
+                    .hasElement()
+                    .block(startupProperties.getCheckTimeout()));
+        } catch (RuntimeException exception) {
+            log.info("No se pudo comprobar si el changelog {} ya está aplicado, se ejecuta Liquibase: {}", tag,
+                    exception.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Marca con la huella la fila del último changeset ejecutado, la misma que elige {@code tagDatabase}.
+     */
+    private void tagLastChangeSet(SpringLiquibase liquibase, String tag, LiquibaseStartupProperties startupProperties) {
+        String table = changeLogTable(liquibase);
+        String sql = """
+                UPDATE %1$s SET tag = :tag
+                WHERE (dateexecuted, orderexecuted) = (SELECT dateexecuted, orderexecuted FROM %1$s
+                                                       ORDER BY dateexecuted DESC, orderexecuted DESC
+                                                       LIMIT 1)
+                """.formatted(table);
+        try {
+            this.databaseClient().sql(sql)
+                    .bind("tag", tag)
+                    .fetch()
+                    .rowsUpdated()
+                    .block(startupProperties.getCheckTimeout());
+            log.info("Changelog {} registrado en {}", tag, table);
+        } catch (RuntimeException exception) {
+            // Solo se pierde la optimización: el próximo arranque volverá a ejecutar Liquibase
+            log.warn("No se pudo registrar el changelog {} en {}: {}", tag, table, exception.getMessage());
+        }
+    }
+
+    private DatabaseClient databaseClient() {
+        return DatabaseClient.create(this.connectionFactory.getObject());
+    }
+
+    private static String changeLogTable(SpringLiquibase liquibase) {
+        String schema = liquibase.getLiquibaseSchema();
+        return StringUtils.hasText(schema) ? schema + "." + liquibase.getDatabaseChangeLogTable() : liquibase.getDatabaseChangeLogTable();
+    }
+
+    /**
+     * Tag con el SHA-256 del nombre y contenido de los archivos que están bajo el directorio del changelog maestro
+     * (incluido él), en orden de ruta; {@code null} si no se pudieron leer, y entonces Liquibase se ejecuta.
+     */
+    private static String fingerprint(String changeLog) {
+        String directory = changeLog.substring(0, changeLog.lastIndexOf('/') + 1).replaceFirst("^classpath:", "classpath*:");
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(directory + "**/*.*");
+            Arrays.sort(resources, Comparator.comparing(LiquibaseStartupPostProcessor::location));
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Resource resource : resources) {
+                digest.update(String.valueOf(resource.getFilename()).getBytes(StandardCharsets.UTF_8));
+                digest.update(resource.getContentAsByteArray());
+            }
+            return TAG_PREFIX + HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | UncheckedIOException | NoSuchAlgorithmException exception) {
+            log.warn("No se pudo calcular la huella del changelog {}, se ejecuta Liquibase: {}", changeLog, exception.getMessage());
+            return null;
+        }
+    }
+
+    private static String location(Resource resource) {
+        try {
+            return resource.getURL().toString();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
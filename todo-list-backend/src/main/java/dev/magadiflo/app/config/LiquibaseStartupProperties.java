@@ -0,0 +1,27 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.liquibase")
+public class LiquibaseStartupProperties {
+    // Cuándo se ejecuta Liquibase al arrancar (ver LiquibaseStartupPostProcessor).
+    private StartupMode startupMode = StartupMode.ALWAYS;
+    // Tiempo máximo para comprobar por R2DBC si el changelog ya está aplicado; si se supera, Liquibase se ejecuta.
+    private Duration checkTimeout = Duration.ofSeconds(5);
+
+    public enum StartupMode {
+        // Ejecuta Liquibase en cada arranque.
+        ALWAYS,
+        // Lo omite si la base de datos ya tiene aplicada esta misma versión del changelog.
+        IF_CHANGED,
+        // No lo ejecuta: las migraciones las aplica otro proceso (un job de despliegue) o es el arranque de
+        // entrenamiento del archivo CDS.
+        SKIP
+    }
+}
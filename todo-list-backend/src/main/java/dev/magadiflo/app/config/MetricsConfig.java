@@ -0,0 +1,20 @@
+package dev.magadiflo.app.config;
+
+import dev.magadiflo.app.metrics.RepositoryMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas de los repositorios. Se publican junto con las demás en /actuator/prometheus.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    // static: un BeanPostProcessor no debe obligar a crear antes de tiempo la configuración que lo declara
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsPostProcessor(meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Lo que la imagen nativa de GraalVM necesita y el procesamiento AOT de Spring no deduce solo (perfil {@code native}):
+ * <ul>
+ *     <li>El changelog maestro de Liquibase, que está fuera de db/changelog, y el comparador que Liquibase instancia
+ *     por reflexión al procesar {@code includeAll}.</li>
+ *     <li>Los DTOs, entidades y enums del modelo, que Jackson y Spring Data leen por reflexión. Los que aparecen en
+ *     las firmas de los controladores ya los registra Spring, pero no los que van dentro de un Flux o un Mono.</li>
+ * </ul>
+ * Se evalúa al compilar, así que el escaneo del paquete del modelo no tiene costo al arrancar.
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    private static final String MODEL_PACKAGE = "dev.magadiflo.app.model";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("db/*.yml");
+        hints.reflection().registerType(ChangeLogFileComparator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(MODEL_PACKAGE)) {
+            bindingHints.registerReflectionHints(hints.reflection(),
+                    ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.r2dbc.query-tracing")
+public class QueryTracingProperties {
+    // Envuelve la ConnectionFactory con r2dbc-proxy para medir cada sentencia.
+    private boolean enabled = true;
+    // Las sentencias que tardan al menos esto se registran en el log.
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+    // Fracción (0 a 1) de las consultas lentas cuyo log incluye los parámetros.
+    private double parameterSampleRate = 0.1;
+    // Agrega X-Query-Count y Server-Timing a las respuestas.
+    private boolean responseHeaders = true;
+    // Las peticiones con más consultas que esto se registran como WARN (posible N+1).
+    private int queryCountWarnThreshold = 25;
+}
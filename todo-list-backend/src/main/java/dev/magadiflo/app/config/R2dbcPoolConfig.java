@@ -0,0 +1,156 @@
+package dev.magadiflo.app.config;
+
+import dev.magadiflo.app.replica.ReadOnlyRoutingTransactionManager;
+import dev.magadiflo.app.replica.ReadReplicaConnectionFactory;
+import dev.magadiflo.app.tracing.QueryTracingListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pool de conexiones R2DBC configurado de forma explícita a partir de {@code spring.r2dbc.pool.*}. Reemplaza al pool
+ * que arma Spring Boot para poder medir la latencia de adquisición de conexiones y precalentar el pool al arrancar.
+ * Los gauges del pool (acquired, idle, pending, allocated) los registra el actuator, que desenvuelve el
+ * {@link TimedConnectionFactory} hasta llegar al {@link ConnectionPool}.
+ * <p>
+ * Con {@code app.r2dbc.query-tracing.enabled} las conexiones que crea el pool pasan por r2dbc-proxy, que mide cada
+ * sentencia (ver {@link QueryTracingListener}). El proxy queda debajo del pool, así el pool sigue siendo el que se
+ * desenvuelve para el precalentamiento y los gauges.
+ * <p>
+ * Con {@code app.r2dbc.replicas.enabled} cada réplica tiene su propio pool, armado igual, y la ConnectionFactory
+ * es un {@link ReadReplicaConnectionFactory} que envía a las réplicas las transacciones de solo lectura.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class R2dbcPoolConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionFactory connectionFactory(R2dbcProperties r2dbcProperties, QueryTracingProperties queryTracingProperties,
+                                               ReadReplicaProperties readReplicaProperties, MeterRegistry meterRegistry) {
+        String poolName = StringUtils.hasText(r2dbcProperties.getName()) ? r2dbcProperties.getName() : "connectionFactory";
+        TimedConnectionFactory primary = connectionPool(poolName, r2dbcProperties.getUrl(), r2dbcProperties.getUsername(),
+                r2dbcProperties.getPassword(), r2dbcProperties.getPool(), queryTracingProperties, meterRegistry);
+        if (!readReplicaProperties.isEnabled() || readReplicaProperties.getUrls().isEmpty()) {
+            return primary;
+        }
+
+        String username = StringUtils.hasText(readReplicaProperties.getUsername()) ?
+                readReplicaProperties.getUsername() : r2dbcProperties.getUsername();
+        String password = StringUtils.hasText(readReplicaProperties.getPassword()) ?
+                readReplicaProperties.getPassword() : r2dbcProperties.getPassword();
+        Map<String, TimedConnectionFactory> replicas = new LinkedHashMap<>();
+        List<String> urls = readReplicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            String replicaName = poolName + "-replica-" + (i + 1);
+            replicas.put(replicaName, connectionPool(replicaName, urls.get(i), username, password, r2dbcProperties.getPool(),
+                    queryTracingProperties, meterRegistry));
+        }
+        log.info("Lecturas de solo lectura repartidas entre {} réplicas: {}", replicas.size(), urls);
+        return new ReadReplicaConnectionFactory(primary, replicas, readReplicaProperties, meterRegistry);
+    }
+
+    /**
+     * Reemplaza al de Spring Boot para que las transacciones de solo lectura obtengan su conexión de una réplica.
+     * Sin réplicas configuradas se comporta igual que {@link R2dbcTransactionManager}.
+     */
+    @Bean
+    public ReactiveTransactionManager transactionManager(ConnectionFactory connectionFactory) {
+        return new ReadOnlyRoutingTransactionManager(connectionFactory);
+    }
+
+    /**
+     * Los gauges del pool que registra el actuator son solo los de la principal (la que se desenvuelve); los pools de
+     * las réplicas se registran aquí con el mismo formato.
+     */
+    @Bean
+    public MeterBinder replicaConnectionPoolMetrics(ConnectionFactory connectionFactory) {
+        return registry -> {
+            if (connectionFactory instanceof ReadReplicaConnectionFactory readReplicaConnectionFactory) {
+                readReplicaConnectionFactory.getReplicaConnectionFactories().forEach(replica ->
+                        new ConnectionPoolMetrics((ConnectionPool) replica.unwrap(), replica.getName(), Tags.empty()).bindTo(registry));
+            }
+        };
+    }
+
+    /**
+     * Abre las {@code initial-size} conexiones antes de que la aplicación reciba tráfico, así las primeras peticiones
+     * no pagan el establecimiento de la conexión (TCP, TLS y autenticación).
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.r2dbc.pool", name = "warm-up", havingValue = "true", matchIfMissing = true)
+    public ApplicationRunner connectionPoolWarmUp(ConnectionFactory connectionFactory) {
+        return args -> {
+            if (connectionFactory instanceof ReadReplicaConnectionFactory readReplicaConnectionFactory) {
+                warmUp((TimedConnectionFactory) readReplicaConnectionFactory.unwrap());
+                // Una réplica caída no impide arrancar: queda fuera de la rotación hasta que responda
+                readReplicaConnectionFactory.getReplicaConnectionFactories().forEach(replica -> {
+                    try {
+                        warmUp(replica);
+                    } catch (RuntimeException e) {
+                        log.warn("No se pudo precalentar el pool {}: {}", replica.getName(), e.getMessage());
+                    }
+                });
+            } else if (connectionFactory instanceof TimedConnectionFactory timedConnectionFactory) {
+                warmUp(timedConnectionFactory);
+            }
+        };
+    }
+
+    private static void warmUp(TimedConnectionFactory connectionFactory) {
+        if (connectionFactory.unwrap() instanceof ConnectionPool pool) {
+            Integer connections = pool.warmup().block();
+            log.info("Pool de conexiones R2DBC {} precalentado con {} conexiones", connectionFactory.getName(), connections);
+        }
+    }
+
+    private static TimedConnectionFactory connectionPool(String poolName, String url, String username, String password,
+                                                         R2dbcProperties.Pool pool, QueryTracingProperties queryTracingProperties,
+                                                         MeterRegistry meterRegistry) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(url)
+                .username(username)
+                .password(password)
+                .build();
+        if (queryTracingProperties.isEnabled()) {
+            connectionFactory = ProxyConnectionFactory.builder(connectionFactory)
+                    .listener(new QueryTracingListener(queryTracingProperties))
+                    .build();
+        }
+
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(poolName);
+
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(pool.getInitialSize()).to(builder::initialSize);
+        map.from(pool.getMinIdle()).to(builder::minIdle);
+        map.from(pool.getMaxSize()).to(builder::maxSize);
+        map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map.from(pool.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+        map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(pool.getMaxValidationTime()).to(builder::maxValidationTime);
+        map.from(pool.getValidationQuery()).whenHasText().to(builder::validationQuery);
+        map.from(pool.getValidationDepth()).to(builder::validationDepth);
+
+        return new TimedConnectionFactory(new ConnectionPool(builder.build()), poolName, meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.r2dbc.replicas")
+public class ReadReplicaProperties {
+    // Envía las transacciones de solo lectura a las réplicas; las demás van siempre a la base de datos principal.
+    private boolean enabled = false;
+    // URLs R2DBC de las réplicas. Cada una tiene su propio pool, con la misma configuración que spring.r2dbc.pool.
+    private List<String> urls = new ArrayList<>();
+    // Usuario y contraseña de las réplicas; si no se indican se usan los de spring.r2dbc.
+    private String username;
+    private String password;
+    // Cada cuánto se revisa si cada réplica responde y cuánto retraso de replicación tiene.
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    // Las réplicas con más retraso que esto dejan de recibir lecturas hasta ponerse al día.
+    private Duration maxLag = Duration.ofSeconds(10);
+    // Tras modificar un item, el cliente lee de una réplica solo si esta ya tiene esa versión del item.
+    private boolean readYourWrites = true;
+    // Tiempo durante el que se recuerda la última escritura de un cliente (cookie).
+    private Duration readYourWritesWindow = Duration.ofSeconds(30);
+}
@@ -0,0 +1,16 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.cache.reference-data")
+public class ReferenceDataCacheProperties {
+    // Máximo de entradas por caché; al superarlo se desalojan las menos usadas.
+    private long maximumSize = 10_000;
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
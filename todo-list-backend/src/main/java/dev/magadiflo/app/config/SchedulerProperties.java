@@ -0,0 +1,40 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties(prefix = "app.schedulers")
+public class SchedulerProperties {
+    // Trabajo bloqueante que no se puede evitar (E/S de archivos, librerías sin API reactiva).
+    private final Blocking blocking = new Blocking();
+    // Trabajo de CPU que no debe ocupar los hilos de Netty (parseo de archivos, armado de los datos de COPY).
+    private final Cpu cpu = new Cpu();
+
+    @Setter
+    @Getter
+    public static class Blocking {
+        // PLATFORM: hilos del sistema operativo; VIRTUAL: hilos virtuales (requiere Java 21).
+        private ThreadType threads = ThreadType.PLATFORM;
+        // Hilos como máximo; con hilos virtuales limita la concurrencia, no la memoria.
+        private int maxThreads = 10 * Runtime.getRuntime().availableProcessors();
+        // Tareas que pueden esperar un hilo libre; al superarlo se rechazan en lugar de acumularse.
+        private int maxQueuedTasks = 10_000;
+        // Tiempo que un hilo ocioso se conserva antes de liberarse.
+        private Duration keepAlive = Duration.ofSeconds(60);
+    }
+
+    @Setter
+    @Getter
+    public static class Cpu {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    public enum ThreadType {
+        PLATFORM,
+        VIRTUAL
+    }
+}
@@ -0,0 +1,19 @@
+package dev.magadiflo.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.http.streaming")
+public class StreamingResponseProperties {
+    // Agrupa los elementos de las respuestas en streaming (salvo SSE) antes de enviarlos, en lugar de uno por flush.
+    private boolean coalesceFlushes = true;
+    // Elementos que se envían juntos como máximo en cada flush.
+    private int flushMaxItems = 64;
+    // Tiempo máximo que un elemento espera en el grupo antes de enviarse.
+    private Duration flushInterval = Duration.ofMillis(50);
+}
@@ -0,0 +1,65 @@
+package dev.magadiflo.app.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Envuelve al {@link ConnectionPool} para registrar en {@code r2dbc.pool.acquire} cuánto tarda cada adquisición de
+ * conexión, desde que se pide hasta que el pool la entrega (incluye la espera cuando el pool está agotado).
+ */
+public class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    private final ConnectionPool pool;
+    private final String name;
+    private final Timer acquireTimer;
+
+    public TimedConnectionFactory(ConnectionPool pool, String poolName, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.name = poolName;
+        this.acquireTimer = Timer.builder("r2dbc.pool.acquire")
+                .description("Tiempo de adquisición de una conexión del pool")
+                .tag("name", poolName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return this.pool.create()
+                    .doOnSuccess(connection -> sample.stop(this.acquireTimer));
+        });
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return this.pool.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return this.pool;
+    }
+
+    @Override
+    public void dispose() {
+        this.pool.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return this.pool.isDisposed();
+    }
+}
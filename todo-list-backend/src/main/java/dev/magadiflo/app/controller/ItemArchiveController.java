@@ -0,0 +1,39 @@
+package dev.magadiflo.app.controller;
+
+import dev.magadiflo.app.model.dto.ArchivedItemSearchCriteria;
+import dev.magadiflo.app.model.dto.ItemPageResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.service.ItemArchiveService;
+import dev.magadiflo.app.util.ItemCursor;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Items archivados (DONE antiguos que ya no están en /api/v1/items). Solo lectura: se paginan igual que
+ * /api/v1/items/page y se filtran por rango de fechas de última modificación, asignado y tag.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(path = "/api/v1/items/archive")
+public class ItemArchiveController {
+
+    private final ItemArchiveService itemArchiveService;
+
+    @GetMapping
+    public Mono<ResponseEntity<ItemPageResource>> findArchivedItemPage(ArchivedItemSearchCriteria criteria,
+                                                                       @RequestParam(required = false, defaultValue = "50") @Min(1) @Max(500) Integer limit,
+                                                                       @RequestParam(required = false) String after) {
+        return this.itemArchiveService.findArchivedItemPage(criteria, ItemCursor.decode(after), limit)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(path = "/{itemId}")
+    public Mono<ResponseEntity<ItemResource>> findArchivedItem(@PathVariable Long itemId) {
+        return this.itemArchiveService.findArchivedItemById(itemId)
+                .map(ResponseEntity::ok);
+    }
+}
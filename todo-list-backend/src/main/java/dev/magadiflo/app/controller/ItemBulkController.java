@@ -0,0 +1,42 @@
+package dev.magadiflo.app.controller;
+
+import dev.magadiflo.app.model.dto.ItemBulkResultResource;
+import dev.magadiflo.app.model.dto.ItemBulkUpdateResource;
+import dev.magadiflo.app.model.dto.ItemVersionResource;
+import dev.magadiflo.app.model.dto.NewItemResource;
+import dev.magadiflo.app.service.ItemBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Los cuerpos se aceptan como arreglo JSON o como NDJSON (un item por línea) y se leen a medida que llegan. La
+ * respuesta trae un resultado por elemento, en el mismo orden.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(path = "/api/v1/items/bulk",
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+        produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+public class ItemBulkController {
+
+    private final ItemBulkService itemBulkService;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<ItemBulkResultResource>>> createItems(@RequestBody Flux<NewItemResource> newItemResources) {
+        return Mono.just(ResponseEntity.ok(this.itemBulkService.createItems(newItemResources)));
+    }
+
+    @PutMapping
+    public Mono<ResponseEntity<Flux<ItemBulkResultResource>>> updateItems(@RequestBody Flux<ItemBulkUpdateResource> itemBulkUpdateResources) {
+        return Mono.just(ResponseEntity.ok(this.itemBulkService.updateItems(itemBulkUpdateResources)));
+    }
+
+    @DeleteMapping
+    public Mono<ResponseEntity<Flux<ItemBulkResultResource>>> deleteItems(@RequestBody Flux<ItemVersionResource> itemVersionResources) {
+        return Mono.just(ResponseEntity.ok(this.itemBulkService.deleteItems(itemVersionResources)));
+    }
+}
@@ -1,56 +1,247 @@
 package dev.magadiflo.app.controller;
 
+import dev.magadiflo.app.codec.BinaryMediaTypes;
+import dev.magadiflo.app.metrics.AppMetrics;
+import dev.magadiflo.app.model.dto.ItemAggregatesResource;
+import dev.magadiflo.app.model.dto.ItemCollectionRevisionResource;
+import dev.magadiflo.app.model.dto.ItemEventResource;
+import dev.magadiflo.app.model.dto.ItemPageResource;
+import dev.magadiflo.app.model.dto.ItemPatchResource;
 import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.dto.ItemRevisionResource;
+import dev.magadiflo.app.model.dto.ItemSearchCriteria;
 import dev.magadiflo.app.model.dto.ItemUpdateResource;
 import dev.magadiflo.app.model.dto.NewItemResource;
+import dev.magadiflo.app.replica.ItemWriteToken;
+import dev.magadiflo.app.replica.ReadYourWritesWebFilter;
+import dev.magadiflo.app.service.ItemAggregateService;
+import dev.magadiflo.app.service.ItemFeedService;
 import dev.magadiflo.app.service.ItemService;
+import dev.magadiflo.app.util.ItemCursor;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping(path = "/api/v1/items")
 public class ItemController {
 
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
     private final ItemService itemService;
+    private final ItemFeedService itemFeedService;
+    private final ItemAggregateService itemAggregateService;
+    private final AppMetrics appMetrics;
+
+    /**
+     * Cada evento lleva como id el cursor del item, así un cliente SSE que se reconecta envía la cabecera
+     * {@code Last-Event-ID} y continúa desde el último item recibido en lugar de volver a leer toda la tabla.
+     * Los filtros (status, assigneeId, tagId, tagMatch, q) se aplican en la base de datos.
+     * <p>
+     * Declara también {@code *&#47;*} para que un cliente que no pide un tipo concreto (curl, Accept: *&#47;*) siga
+     * recibiendo SSE y no la variante de {@link #exportItems}; la respuesta igual se escribe como text/event-stream.
+     */
+    @GetMapping(produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.ALL_VALUE})
+    public Mono<ResponseEntity<Flux<ServerSentEvent<ItemResource>>>> findAllItems(ItemSearchCriteria criteria,
+                                                                                 @RequestParam(required = false) @Min(1) Integer limit,
+                                                                                 @RequestParam(required = false) String after,
+                                                                                 @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId,
+                                                                                 ServerWebExchange exchange) {
+        Flux<ItemResource> items = this.findItems(criteria, limit, ItemCursor.decode(after != null ? after : lastEventId));
+        return this.withCollectionETag(exchange, Mono.just(ResponseEntity.ok(this.appMetrics.sseStream("items", items
+                .map(itemResource -> ServerSentEvent.builder(itemResource)
+                        .id(ItemCursor.of(itemResource).encode())
+                        .build())))));
+    }
+
+    /**
+     * El mismo listado sin el encuadre de SSE, para clientes que no son navegadores: con application/x-ndjson un item
+     * por línea y con application/json un arreglo. En ambos casos cada item se escribe en la respuesta a medida que
+     * llega de la base de datos y el siguiente lote se consulta según lo que consume el cliente, así la exportación
+     * de toda la tabla no se acumula en memoria. Para continuar una exportación interrumpida se usa {@code after}
+     * con el cursor del último item recibido.
+     * <p>
+     * Las variantes binarias ocupan menos: application/stream+x-jackson-smile y application/cbor-seq se escriben en
+     * streaming como NDJSON; application/x-jackson-smile y application/cbor, como arreglo.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE,
+            BinaryMediaTypes.SMILE_STREAM_VALUE, BinaryMediaTypes.SMILE_VALUE,
+            BinaryMediaTypes.CBOR_SEQUENCE_VALUE, BinaryMediaTypes.CBOR_VALUE})
+    public Mono<ResponseEntity<Flux<ItemResource>>> exportItems(ItemSearchCriteria criteria,
+                                                                @RequestParam(required = false) @Min(1) Integer limit,
+                                                                @RequestParam(required = false) String after,
+                                                                ServerWebExchange exchange) {
+        Flux<ItemResource> items = this.findItems(criteria, limit, ItemCursor.decode(after));
+        return this.withCollectionETag(exchange, Mono.just(ResponseEntity.ok(items)));
+    }
+
+    /**
+     * Envía un snapshot de todos los items y luego, sin completar, los cambios que se produzcan.
+     */
+    @GetMapping(path = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Mono<ResponseEntity<Flux<ItemEventResource>>> streamItemEvents() {
+        return Mono.just(ResponseEntity.ok(this.appMetrics.sseStream("items.feed", this.itemFeedService.streamItemEvents())));
+    }
 
-    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public Mono<ResponseEntity<Flux<ItemResource>>> findAllItems() {
-        return Mono.just(ResponseEntity.ok(this.itemService.findAllItems()));
+    /**
+     * Totales de items por estado, por asignado y por tag, leídos de contadores que se mantienen al escribir.
+     */
+    @GetMapping(path = "/aggregates")
+    public Mono<ResponseEntity<ItemAggregatesResource>> findItemAggregates(ServerWebExchange exchange) {
+        return this.withCollectionETag(exchange, this.itemAggregateService.findItemAggregates()
+                .map(ResponseEntity::ok));
     }
 
+    @GetMapping(path = "/page")
+    public Mono<ResponseEntity<ItemPageResource>> findItemPage(ItemSearchCriteria criteria,
+                                                               @RequestParam(required = false, defaultValue = "50") @Min(1) @Max(500) Integer limit,
+                                                               @RequestParam(required = false) String after,
+                                                               ServerWebExchange exchange) {
+        return this.withCollectionETag(exchange, this.itemService.findItemPage(criteria, ItemCursor.decode(after), limit)
+                .map(ResponseEntity::ok));
+    }
+
+    /**
+     * Responde con ETag y Last-Modified. Sin relaciones el ETag es la versión del item. Con relaciones es débil e
+     * incluye la última modificación del responsable y de los tags, que pueden cambiar sin que cambie la versión del
+     * item. Si el cliente envía If-None-Match o If-Modified-Since primero se consulta solo la revisión y, si no cambió,
+     * se responde 304 sin leer el item ni sus relaciones.
+     */
     @GetMapping(path = "/{itemId}")
     public Mono<ResponseEntity<ItemResource>> findItem(@PathVariable Long itemId,
-                                                       @RequestParam(required = false, defaultValue = "false") Boolean loadRelations) {
-        return this.itemService.findItemById(itemId, loadRelations)
-                .map(ResponseEntity::ok);
+                                                       @RequestParam(required = false, defaultValue = "false") Boolean loadRelations,
+                                                       ServerWebExchange exchange) {
+        Mono<ItemResource> itemResource = this.itemService.findItemById(itemId, loadRelations);
+
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+        if (!loadRelations && requestHeaders.getIfNoneMatch().isEmpty() && requestHeaders.getIfModifiedSince() < 0) {
+            return itemResource.map(resource -> ResponseEntity.ok()
+                    .eTag(itemETag(resource.getVersion()))
+                    .lastModified(toInstant(resource.getLastModifiedDate()))
+                    .body(resource));
+        }
+
+        // La revisión se lee antes que el item: si cambia entre ambas lecturas el ETag queda atrasado y la siguiente
+        // petición recibe el item completo, nunca un 304 para datos que el cliente no tiene.
+        return this.itemService.findItemRevision(itemId)
+                .flatMap(revision -> {
+                    String eTag = loadRelations ? itemWithRelationsETag(revision) : itemETag(revision.getVersion());
+                    Instant lastModified = toInstant(loadRelations ? lastModifiedWithRelations(revision) : revision.getLastModifiedDate());
+                    return exchange.checkNotModified(eTag, lastModified) ?
+                            Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).lastModified(lastModified).build()) :
+                            itemResource.map(resource -> ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(resource));
+                });
     }
 
+    /**
+     * Las escrituras de un item se registran para que, con réplicas de lectura, el mismo cliente lea lo que acaba de
+     * escribir (ver {@link ReadYourWritesWebFilter}).
+     */
     @PostMapping
-    public Mono<ResponseEntity<ItemResource>> createItem(@Valid @RequestBody NewItemResource newItemResource) {
+    public Mono<ResponseEntity<ItemResource>> createItem(@Valid @RequestBody NewItemResource newItemResource,
+                                                         ServerWebExchange exchange) {
         return this.itemService.createItem(newItemResource)
+                .doOnNext(itemResource -> recordWrite(exchange, itemResource))
                 .map(itemResource -> new ResponseEntity<>(itemResource, HttpStatus.CREATED));
     }
 
     @PutMapping(path = "/{itemId}")
     public Mono<ResponseEntity<ItemResource>> updateItem(@PathVariable Long itemId,
                                                          @Valid @RequestBody ItemUpdateResource itemUpdateResource,
-                                                         @RequestHeader(value = HttpHeaders.IF_MATCH) Long version) {
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH) Long version,
+                                                         ServerWebExchange exchange) {
         return this.itemService.updateItem(itemId, itemUpdateResource, version)
+                .doOnNext(itemResource -> recordWrite(exchange, itemResource))
+                .map(ResponseEntity::ok);
+    }
+
+    @PatchMapping(path = "/{itemId}")
+    public Mono<ResponseEntity<ItemResource>> patchItem(@PathVariable Long itemId,
+                                                        @Valid @RequestBody ItemPatchResource itemPatchResource,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH) Long version,
+                                                        ServerWebExchange exchange) {
+        return this.itemService.patchItem(itemId, itemPatchResource, version)
+                .doOnNext(itemResource -> recordWrite(exchange, itemResource))
                 .map(ResponseEntity::ok);
     }
 
     @DeleteMapping(path = "/{itemId}")
     public Mono<ResponseEntity<Void>> deleteItem(@PathVariable Long itemId,
-                                                 @RequestHeader(value = HttpHeaders.IF_MATCH) Long version) {
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH) Long version,
+                                                 ServerWebExchange exchange) {
         return this.itemService.deleteItemById(itemId, version)
+                .then(Mono.fromRunnable(() -> ReadYourWritesWebFilter.recordWrite(exchange, ItemWriteToken.deleted(itemId))))
                 .thenReturn(ResponseEntity.noContent().build());
     }
+
+    private Flux<ItemResource> findItems(ItemSearchCriteria criteria, Integer limit, ItemCursor cursor) {
+        return criteria.isEmpty() && cursor == null && limit == null ?
+                this.itemService.findAllItems() :
+                this.itemService.findItems(criteria, cursor, limit);
+    }
+
+    /**
+     * Agrega a una respuesta de colección un ETag débil calculado a partir de la cantidad de items y de su última
+     * modificación, y responde 304 sin ejecutar la consulta si coincide con el If-None-Match del cliente. Es débil
+     * porque los nombres de personas y tags incluidos en la respuesta no forman parte del cálculo.
+     */
+    private <T> Mono<ResponseEntity<T>> withCollectionETag(ServerWebExchange exchange, Mono<ResponseEntity<T>> response) {
+        return this.itemService.findItemCollectionRevision()
+                .flatMap(revision -> {
+                    String eTag = collectionETag(revision);
+                    if (exchange.checkNotModified(eTag)) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<T>build());
+                    }
+                    return response.map(entity -> ResponseEntity.status(entity.getStatusCode())
+                            .headers(entity.getHeaders())
+                            .eTag(eTag)
+                            .body(entity.getBody()));
+                });
+    }
+
+    private static void recordWrite(ServerWebExchange exchange, ItemResource itemResource) {
+        ReadYourWritesWebFilter.recordWrite(exchange, ItemWriteToken.written(itemResource.getId(), itemResource.getVersion()));
+    }
+
+    private static String itemETag(Long version) {
+        return "\"%d\"".formatted(version);
+    }
+
+    private static String itemWithRelationsETag(ItemRevisionResource revision) {
+        long relationsLastModified = revision.getRelationsLastModifiedDate() == null ? 0 :
+                ChronoUnit.MICROS.between(Instant.EPOCH, toInstant(revision.getRelationsLastModifiedDate()));
+        return "W/\"%d-%d\"".formatted(revision.getVersion(), relationsLastModified);
+    }
+
+    private static LocalDateTime lastModifiedWithRelations(ItemRevisionResource revision) {
+        LocalDateTime relationsLastModified = revision.getRelationsLastModifiedDate();
+        return relationsLastModified != null && relationsLastModified.isAfter(revision.getLastModifiedDate()) ?
+                relationsLastModified : revision.getLastModifiedDate();
+    }
+
+    private static String collectionETag(ItemCollectionRevisionResource revision) {
+        long lastModified = revision.getLastModifiedDate() == null ? 0 :
+                ChronoUnit.MICROS.between(Instant.EPOCH, toInstant(revision.getLastModifiedDate()));
+        return "W/\"%d-%d\"".formatted(revision.getItemCount(), lastModified);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
 }
@@ -0,0 +1,63 @@
+package dev.magadiflo.app.controller;
+
+import dev.magadiflo.app.exception.InvalidImportFileException;
+import dev.magadiflo.app.model.dto.ItemImportEventResource;
+import dev.magadiflo.app.model.enums.ItemImportFormat;
+import dev.magadiflo.app.service.ItemImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.FilePartEvent;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+
+/**
+ * Importación de items desde un archivo enviado como multipart/form-data en la parte {@code file}:
+ * <pre>
+ * curl -F "file=@items.csv;type=text/csv" http://localhost:8080/api/v1/items/import
+ * </pre>
+ * El archivo es CSV salvo que la parte sea application/x-ndjson o su nombre termine en .ndjson o .jsonl. La parte se
+ * consume como eventos ({@link PartEvent}) para que su contenido llegue al servicio a medida que se recibe, sin
+ * guardarse antes en memoria ni en un archivo temporal.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(path = "/api/v1/items/import")
+public class ItemImportController {
+
+    private static final String FILE_PART = "file";
+
+    private final ItemImportService itemImportService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseEntity<Flux<ItemImportEventResource>>> importItems(@RequestBody Flux<PartEvent> partEvents) {
+        Flux<ItemImportEventResource> events = partEvents.windowUntil(PartEvent::isLast)
+                .concatMap(part -> part.switchOnFirst((signal, partContent) -> {
+                    if (signal.get() instanceof FilePartEvent filePartEvent && FILE_PART.equals(filePartEvent.name())) {
+                        return this.itemImportService.importItems(partContent.map(PartEvent::content), format(filePartEvent));
+                    }
+                    // Las demás partes se descartan
+                    return partContent.doOnNext(partEvent -> DataBufferUtils.release(partEvent.content()))
+                            .thenMany(Flux.empty());
+                }))
+                .switchIfEmpty(Flux.error(() -> new InvalidImportFileException("falta la parte [%s]".formatted(FILE_PART))));
+        return Mono.just(ResponseEntity.ok(events));
+    }
+
+    private static ItemImportFormat format(FilePartEvent filePartEvent) {
+        MediaType contentType = filePartEvent.headers().getContentType();
+        String filename = filePartEvent.filename().toLowerCase(Locale.ROOT);
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ||
+                         filename.endsWith(".ndjson") || filename.endsWith(".jsonl");
+        return ndjson ? ItemImportFormat.NDJSON : ItemImportFormat.CSV;
+    }
+}
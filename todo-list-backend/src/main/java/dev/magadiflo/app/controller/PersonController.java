@@ -1,5 +1,6 @@
 package dev.magadiflo.app.controller;
 
+import dev.magadiflo.app.metrics.AppMetrics;
 import dev.magadiflo.app.model.dto.PersonResource;
 import dev.magadiflo.app.service.PersonService;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +19,11 @@ import reactor.core.publisher.Mono;
 public class PersonController {
 
     private final PersonService personService;
+    private final AppMetrics appMetrics;
 
     @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Mono<ResponseEntity<Flux<PersonResource>>> findAllPersons() {
-        return Mono.just(ResponseEntity.ok(this.personService.findAllPersons()));
+        return Mono.just(ResponseEntity.ok(this.appMetrics.sseStream("persons", this.personService.findAllPersons())));
     }
 
     @GetMapping(path = "/{personId}")
@@ -1,5 +1,6 @@
 package dev.magadiflo.app.controller;
 
+import dev.magadiflo.app.metrics.AppMetrics;
 import dev.magadiflo.app.model.dto.TagResource;
 import dev.magadiflo.app.service.TagService;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +19,11 @@ import reactor.core.publisher.Mono;
 public class TagController {
 
     private final TagService tagService;
+    private final AppMetrics appMetrics;
 
     @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Mono<ResponseEntity<Flux<TagResource>>> findAllTags() {
-        return Mono.just(ResponseEntity.ok(this.tagService.findAllTags()));
+        return Mono.just(ResponseEntity.ok(this.appMetrics.sseStream("tags", this.tagService.findAllTags())));
     }
 
     @GetMapping(path = "/{tagId}")
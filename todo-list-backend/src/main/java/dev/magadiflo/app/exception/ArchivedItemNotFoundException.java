@@ -0,0 +1,7 @@
+package dev.magadiflo.app.exception;
+
+public class ArchivedItemNotFoundException extends NotFoundException {
+    public ArchivedItemNotFoundException(Long itemId) {
+        super("No se encuentra el item archivado [%d]".formatted(itemId));
+    }
+}
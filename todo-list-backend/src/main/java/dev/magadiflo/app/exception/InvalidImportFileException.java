@@ -0,0 +1,7 @@
+package dev.magadiflo.app.exception;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super("El archivo de importación no es válido: " + message);
+    }
+}
@@ -12,6 +12,7 @@ import reactor.core.publisher.Mono;
 public class GlobalExceptionHandler {
     @ExceptionHandler({
             ItemNotFoundException.class,
+            ArchivedItemNotFoundException.class,
             PersonNotFoundException.class,
             TagNotFoundException.class
     })
@@ -27,4 +28,18 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.PRECONDITION_FAILED)
                 .body(ResponseMessage.<Void>builder().message(exception.getMessage()).build()));
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public Mono<ResponseEntity<ResponseMessage<Void>>> handle(InvalidCursorException exception) {
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ResponseMessage.<Void>builder().message(exception.getMessage()).build()));
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public Mono<ResponseEntity<ResponseMessage<Void>>> handle(InvalidImportFileException exception) {
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ResponseMessage.<Void>builder().message(exception.getMessage()).build()));
+    }
 }
@@ -0,0 +1,67 @@
+package dev.magadiflo.app.listener;
+
+import dev.magadiflo.app.config.ItemFeedProperties;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Escucha el canal {@code item_changes} de PostgreSQL (LISTEN/NOTIFY) que alimentan los triggers de items e
+ * items_tags. Usa una única conexión dedicada, fuera del pool, que se abre con el primer suscriptor y se cierra
+ * cuando se va el último; si la conexión se pierde se vuelve a abrir con backoff exponencial.
+ */
+@Slf4j
+@Component
+public class ItemChangeListener {
+
+    private static final String CHANNEL = "item_changes";
+
+    private final Flux<ItemChangeNotification> notifications;
+
+    public ItemChangeListener(R2dbcProperties r2dbcProperties, ItemFeedProperties itemFeedProperties) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(r2dbcProperties.getUrl())
+                .username(r2dbcProperties.getUsername())
+                .password(r2dbcProperties.getPassword())
+                .build();
+
+        this.notifications = Flux.usingWhen(Mono.<Connection>from(connectionFactory.create()), this::listen, Connection::close)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, itemFeedProperties.getReconnectMinBackoff())
+                        .maxBackoff(itemFeedProperties.getReconnectMaxBackoff())
+                        .doBeforeRetry(signal -> log.warn("Se perdió la conexión LISTEN {}, reintentando: {}",
+                                CHANNEL, signal.failure().getMessage())))
+                .share();
+    }
+
+    public Flux<ItemChangeNotification> notifications() {
+        return this.notifications;
+    }
+
+    private Flux<ItemChangeNotification> listen(Connection connection) {
+        if (!(connection instanceof PostgresqlConnection postgresqlConnection)) {
+            return Flux.error(new IllegalStateException("LISTEN/NOTIFY requiere una conexión de r2dbc-postgresql"));
+        }
+
+        Mono<Void> listen = postgresqlConnection.createStatement("LISTEN " + CHANNEL)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .then()
+                .doOnSuccess(unused -> log.info("Escuchando notificaciones del canal {}", CHANNEL));
+
+        // Se suscribe a las notificaciones antes de ejecutar LISTEN para no perder ninguna
+        return postgresqlConnection.getNotifications()
+                .mergeWith(listen.then(Mono.empty()))
+                .mapNotNull(Notification::getParameter)
+                .map(ItemChangeNotification::parse)
+                // Si la conexión se cierra las notificaciones completan; se trata como error para reconectar
+                .concatWith(Mono.error(() -> new IllegalStateException("La conexión LISTEN se cerró")));
+    }
+}
@@ -0,0 +1,63 @@
+package dev.magadiflo.app.listener;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemChangeNotification {
+
+    // Un payload de NOTIFY admite menos de 8000 bytes; el mismo límite usa notify_item_changes()
+    public static final int MAX_IDS_PER_PAYLOAD = 300;
+
+    private Operation operation;
+    private List<Long> itemIds;
+    // Solo en ARCHIVE: cursor (ItemCursor) del último item archivado por la transacción
+    private String archivedUntil;
+
+    /**
+     * Interpreta el payload {@code OPERACION:id,id,...} que envían la función {@code notify_item_changes()} (una vez
+     * por sentencia) y las escrituras en lote, o {@code ARCHIVE:cursor} que envía {@code ItemArchiveRepository} una
+     * vez por cada transacción de archivado.
+     */
+    public static ItemChangeNotification parse(String payload) {
+        int separatorIndex = payload.indexOf(':');
+        Operation operation = Operation.valueOf(payload.substring(0, separatorIndex));
+        String value = payload.substring(separatorIndex + 1);
+        return operation == Operation.ARCHIVE ?
+                new ItemChangeNotification(operation, List.of(), value) :
+                new ItemChangeNotification(operation, Arrays.stream(value.split(",")).map(Long::valueOf).toList(), null);
+    }
+
+    /**
+     * Arma los payloads {@code OPERACION:id,id,...} para los ids recibidos, con a lo sumo
+     * {@link #MAX_IDS_PER_PAYLOAD} ids cada uno.
+     */
+    public static List<String> payloads(Operation operation, Collection<Long> itemIds) {
+        List<Long> ids = new ArrayList<>(itemIds);
+        List<String> payloads = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_PAYLOAD) {
+            payloads.add(ids.subList(from, Math.min(from + MAX_IDS_PER_PAYLOAD, ids.size())).stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",", operation.name() + ":", "")));
+        }
+        return payloads;
+    }
+
+    public enum Operation {
+        INSERT,
+        UPDATE,
+        DELETE,
+        // Items DONE que pasaron al histórico (items_archive)
+        ARCHIVE
+    }
+}
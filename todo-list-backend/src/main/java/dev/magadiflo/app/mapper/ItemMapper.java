@@ -9,6 +9,9 @@ import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = {PersonMapper.class, TagMapper.class})
 public abstract class ItemMapper {
 
@@ -48,24 +51,25 @@ public abstract class ItemMapper {
         item.setTags(tagMapper.toTags(itemResource.getTagIds()));
     }
 
-    public Item patch(ItemPatchResource patchResource, Item item) {
+    /**
+     * Columnas de items (nombre → nuevo valor) que el patch envía. No incluye los tags, que viven en items_tags. Se
+     * arma sin leer el item, así la escritura se resuelve en una sola sentencia guardada por la versión.
+     */
+    public Map<String, Object> toPatchedColumns(ItemPatchResource patchResource) {
+        Map<String, Object> columns = new LinkedHashMap<>();
         if (patchResource.getDescription() != null) {
-            item.setDescription(patchResource.getDescription());
+            columns.put("description", patchResource.getDescription());
         }
 
         if (patchResource.getStatus() != null) {
-            item.setStatus(patchResource.getStatus());
+            columns.put("status", patchResource.getStatus().name());
         }
 
         if (patchResource.getAssigneeId() != null) {
-            item.setAssigneeId(patchResource.getAssigneeId());
-        }
-
-        if (patchResource.getTagIds() != null) {
-            item.setTags(this.tagMapper.toTags(patchResource.getTagIds()));
+            columns.put("assignee_id", patchResource.getAssigneeId());
         }
 
-        return item;
+        return columns;
     }
 
 }
@@ -0,0 +1,59 @@
+package dev.magadiflo.app.mapper;
+
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.dto.PersonResource;
+import dev.magadiflo.app.model.dto.TagResource;
+import dev.magadiflo.app.model.enums.ItemStatus;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Convierte una fila de la consulta de lectura de items (item + assignee + tags agregados en arreglos) directamente
+ * en un {@link ItemResource}, sin pasar por la entidad {@code Item} ni por MapStruct.
+ */
+@Component
+public class ItemResourceRowMapper implements BiFunction<Row, RowMetadata, ItemResource> {
+
+    @Override
+    public ItemResource apply(Row row, RowMetadata rowMetadata) {
+        return ItemResource.builder()
+                .id(row.get("id", Long.class))
+                .description(row.get("description", String.class))
+                .status(ItemStatus.valueOf(row.get("status", String.class)))
+                .assignee(this.toAssignee(row))
+                .tags(this.toTags(row))
+                .version(row.get("version", Long.class))
+                .createdDate(row.get("created_date", LocalDateTime.class))
+                .lastModifiedDate(row.get("last_modified_date", LocalDateTime.class))
+                .build();
+    }
+
+    private PersonResource toAssignee(Row row) {
+        Long assigneeId = row.get("assignee_id", Long.class);
+        if (assigneeId == null) return null;
+
+        return PersonResource.builder()
+                .id(assigneeId)
+                .firstName(row.get("assignee_first_name", String.class))
+                .lastName(row.get("assignee_last_name", String.class))
+                .build();
+    }
+
+    private List<TagResource> toTags(Row row) {
+        Long[] tagIds = row.get("tag_ids", Long[].class);
+        String[] tagNames = row.get("tag_names", String[].class);
+        List<TagResource> tags = new ArrayList<>();
+        if (tagIds == null || tagNames == null) return tags;
+
+        for (int i = 0; i < tagIds.length; i++) {
+            tags.add(TagResource.builder().id(tagIds[i]).name(tagNames[i]).build());
+        }
+        return tags;
+    }
+}
@@ -41,6 +41,12 @@ public interface TagMapper {
                 .collect(Collectors.toSet());
     }
 
+    default Long[] toTagIdArray(Collection<Long> tagIds) {
+        if (tagIds == null) return new Long[0];
+
+        return tagIds.toArray(Long[]::new);
+    }
+
     default Collection<ItemTag> toItemTags(Long itemId, Collection<Long> tagIds) {
         if (tagIds == null) return new LinkedHashSet<>();
 
@@ -0,0 +1,107 @@
+package dev.magadiflo.app.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Métricas propias de la aplicación. Los flujos reactivos se miden con la integración de Reactor con Micrometer
+ * ({@code name}/{@code tag}/{@code tap}), que registra bajo el nombre del flujo:
+ * <ul>
+ *     <li>{@code <nombre>.flow.duration}: desde la suscripción hasta que termina, con tags status y exception</li>
+ *     <li>{@code <nombre>.subscribed}: suscripciones</li>
+ *     <li>{@code <nombre>.onNext.delay} y {@code <nombre>.requested}: solo en los Flux</li>
+ * </ul>
+ */
+@Component
+public class AppMetrics {
+
+    public static final String ITEM_SERVICE = "items.service";
+    public static final String REPOSITORY = "repository";
+    public static final String SSE_STREAM = "sse.stream";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> sseSubscribers = new ConcurrentHashMap<>();
+    private final DistributionSummary relationQueries;
+    private final DistributionSummary relationBatchSize;
+
+    public AppMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.relationQueries = DistributionSummary.builder("items.relations.queries")
+                .description("Consultas a la base de datos emitidas para cargar las relaciones de un lote de items")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.relationBatchSize = DistributionSummary.builder("items.relations.batch.size")
+                .description("Items por lote al cargar relaciones")
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> itemService(String operation, Mono<T> mono) {
+        return seal(mono.name(ITEM_SERVICE)
+                .tag("operation", operation)
+                .tap(Micrometer.metrics(this.meterRegistry)));
+    }
+
+    public <T> Flux<T> itemService(String operation, Flux<T> flux) {
+        return seal(flux.name(ITEM_SERVICE)
+                .tag("operation", operation)
+                .tap(Micrometer.metrics(this.meterRegistry)));
+    }
+
+    /**
+     * Mide un flujo SSE y mantiene un gauge {@code sse.subscribers} con los clientes conectados en este momento.
+     */
+    public <T> Flux<T> sseStream(String stream, Flux<T> flux) {
+        AtomicInteger subscribers = this.sseSubscribers.computeIfAbsent(stream, key -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder("sse.subscribers", count, AtomicInteger::get)
+                    .description("Clientes conectados a un flujo SSE")
+                    .tag("stream", key)
+                    .register(this.meterRegistry);
+            return count;
+        });
+        return seal(flux.doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                .doFinally(signalType -> subscribers.decrementAndGet())
+                .name(SSE_STREAM)
+                .tag("stream", stream)
+                .tap(Micrometer.metrics(this.meterRegistry)));
+    }
+
+    public void relationsLoaded(int items, int queries) {
+        this.relationBatchSize.record(items);
+        this.relationQueries.record(queries);
+    }
+
+    /**
+     * Reactor toma los tags de todos los operadores {@code tag} que hay aguas arriba del {@code tap}, así que sin esto
+     * la medición de un servicio heredaría los tags de los repositorios que usa. El publisher intermedio no expone su
+     * origen, con lo que la búsqueda de tags se corta aquí; la suscripción y el contexto se pasan sin cambios.
+     */
+    static <T> Mono<T> seal(Mono<T> measured) {
+        return Mono.fromDirect(subscriber -> measured.subscribe(subscriber));
+    }
+
+    static <T> Flux<T> seal(Flux<T> measured) {
+        return Flux.from(subscriber -> measured.subscribe(subscriber));
+    }
+
+    /**
+     * Escritura rechazada por el bloqueo optimista ({@code UnexpectedItemVersionException}).
+     */
+    public void versionConflict(String operation) {
+        Counter.builder("items.version.conflicts")
+                .description("Escrituras rechazadas porque la versión del item no coincide")
+                .tag("operation", operation)
+                .register(this.meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,43 @@
+package dev.magadiflo.app.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Envuelve los {@link Mono} y {@link Flux} que devuelve un repositorio con {@code name}/{@code tag}/{@code tap}, así
+ * el tiempo medido es el de la consulta (desde la suscripción hasta que termina) y no el de armar el publisher.
+ * Los métodos que no devuelven un publisher se invocan sin medir.
+ */
+class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final String repository;
+
+    RepositoryMetricsInterceptor(MeterRegistry meterRegistry, String repository) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        String method = invocation.getMethod().getName();
+        if (result instanceof Mono<?> mono) {
+            return AppMetrics.seal(mono.name(AppMetrics.REPOSITORY)
+                    .tag("repository", this.repository)
+                    .tag("method", method)
+                    .tap(Micrometer.metrics(this.meterRegistry)));
+        }
+        if (result instanceof Flux<?> flux) {
+            return AppMetrics.seal(flux.name(AppMetrics.REPOSITORY)
+                    .tag("repository", this.repository)
+                    .tag("method", method)
+                    .tap(Micrometer.metrics(this.meterRegistry)));
+        }
+        return result;
+    }
+}
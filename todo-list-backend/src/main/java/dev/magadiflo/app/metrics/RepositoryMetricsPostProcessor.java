@@ -0,0 +1,54 @@
+package dev.magadiflo.app.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Agrega {@link RepositoryMetricsInterceptor} a todos los repositorios:
+ * <ul>
+ *     <li>A los de Spring Data, como advice del proxy que arma su factory (incluye los fragmentos como
+ *     ItemPartialUpdateRepositoryImpl, que se invocan a través de ese proxy).</li>
+ *     <li>A las clases anotadas con {@link Repository} (ItemSearchRepository, ItemReadRepository, ...), con un proxy
+ *     de clase para que se sigan inyectando por su tipo concreto.</li>
+ * </ul>
+ * El {@link MeterRegistry} se obtiene de forma diferida porque los BeanPostProcessor se crean antes que el resto de
+ * beans.
+ */
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory -> repositoryFactory
+                    .addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> proxyFactory
+                            .addAdvice(new RepositoryMetricsInterceptor(this.meterRegistry.getObject(),
+                                    repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> beanClass = ClassUtils.getUserClass(bean);
+        if (!AnnotatedElementUtils.hasAnnotation(beanClass, Repository.class)) {
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new RepositoryMetricsInterceptor(this.meterRegistry.getObject(), beanClass.getSimpleName()));
+        return proxyFactory.getProxy(beanClass.getClassLoader());
+    }
+}
@@ -0,0 +1,22 @@
+package dev.magadiflo.app.model.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ArchivedItemSearchCriteria {
+    // Rango de last_modified_date [from, to): solo se leen las particiones de esos meses.
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    private Long assigneeId;
+    private Long tagId;
+}
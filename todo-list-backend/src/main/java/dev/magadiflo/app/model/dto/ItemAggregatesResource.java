@@ -0,0 +1,19 @@
+package dev.magadiflo.app.model.dto;
+
+import dev.magadiflo.app.model.enums.ItemStatus;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemAggregatesResource {
+    private Map<ItemStatus, Long> byStatus;
+    private List<ItemAssigneeCountResource> byAssignee;
+    private List<ItemTagCountResource> byTag;
+}
@@ -0,0 +1,15 @@
+package dev.magadiflo.app.model.dto;
+
+import lombok.*;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemAssigneeCountResource {
+    // null para los items sin asignar.
+    private PersonResource assignee;
+    private Long count;
+}
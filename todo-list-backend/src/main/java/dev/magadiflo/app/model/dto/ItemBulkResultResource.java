@@ -0,0 +1,21 @@
+package dev.magadiflo.app.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.magadiflo.app.model.enums.ItemBulkResultStatus;
+import lombok.*;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ItemBulkResultResource {
+    // Posición (desde 0) del elemento en el cuerpo de la petición
+    private Long index;
+    private ItemBulkResultStatus status;
+    private Long itemId;
+    private Long version;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package dev.magadiflo.app.model.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemCollectionRevisionResource {
+    private Long itemCount;
+    // null cuando no hay items.
+    private LocalDateTime lastModifiedDate;
+}
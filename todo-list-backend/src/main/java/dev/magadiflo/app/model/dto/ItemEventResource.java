@@ -0,0 +1,25 @@
+package dev.magadiflo.app.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.magadiflo.app.model.enums.ItemEventType;
+import lombok.*;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemEventResource {
+    private ItemEventType type;
+    private Long itemId;
+
+    // No se envía en los eventos DELETED ni ARCHIVED
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ItemResource item;
+
+    // Solo en ARCHIVED (sin itemId): los items DONE hasta este cursor, en el orden (last_modified_date, id), pasaron
+    // al histórico. Un único evento por cada transacción de archivado en lugar de uno por item.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String archivedUntil;
+}
@@ -0,0 +1,23 @@
+package dev.magadiflo.app.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.magadiflo.app.model.enums.ItemImportEventType;
+import lombok.*;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ItemImportEventResource {
+    private ItemImportEventType type;
+    // REJECTED: línea del archivo (desde 1) en la que empieza la fila y motivo del rechazo
+    private Long line;
+    private String message;
+    // PROGRESS y COMPLETED: totales acumulados
+    private Long read;
+    private Long imported;
+    private Long rejected;
+}
@@ -0,0 +1,26 @@
+package dev.magadiflo.app.model.dto;
+
+import dev.magadiflo.app.model.enums.ItemStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemImportRowResource {
+    @NotBlank
+    @Size(max = 4000)
+    private String description;
+    // Si no se indica, TO_DO
+    private ItemStatus status;
+    // Nombre y apellido de la persona asignada
+    private String assignee;
+    // Nombres de los tags
+    private List<String> tags;
+}
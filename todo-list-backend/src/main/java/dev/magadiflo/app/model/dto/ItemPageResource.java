@@ -0,0 +1,17 @@
+package dev.magadiflo.app.model.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemPageResource {
+    private List<ItemResource> content;
+    // Cursor para solicitar la siguiente página, null cuando no hay más items.
+    private String nextCursor;
+}
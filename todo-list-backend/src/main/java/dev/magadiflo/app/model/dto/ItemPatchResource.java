@@ -1,8 +1,7 @@
 package dev.magadiflo.app.model.dto;
 
 import dev.magadiflo.app.model.enums.ItemStatus;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
@@ -15,10 +14,11 @@ import java.util.Set;
 @Setter
 @Getter
 public class ItemPatchResource {
-    @NotBlank
-    @Size(max = 4000)
+    // Todos los campos son opcionales: un campo null no se modifica.
+    // @NotBlank rechazaría el null; el patrón solo exige algún carácter que no sea un espacio
+    @Size(min = 1, max = 4000)
+    @Pattern(regexp = "(?s).*\\S.*", message = "{jakarta.validation.constraints.NotBlank.message}")
     private String description;
-    @NotNull
     private ItemStatus status;
     private Long assigneeId;
     private Set<Long> tagIds;
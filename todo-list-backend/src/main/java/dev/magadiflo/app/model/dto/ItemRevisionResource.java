@@ -0,0 +1,19 @@
+package dev.magadiflo.app.model.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemRevisionResource {
+    private Long id;
+    private Long version;
+    private LocalDateTime lastModifiedDate;
+    // Última modificación del responsable y de los tags del item; null si no tiene ninguno.
+    private LocalDateTime relationsLastModifiedDate;
+}
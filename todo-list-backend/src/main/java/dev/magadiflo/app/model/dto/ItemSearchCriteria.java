@@ -0,0 +1,31 @@
+package dev.magadiflo.app.model.dto;
+
+import dev.magadiflo.app.model.enums.ItemStatus;
+import dev.magadiflo.app.model.enums.TagMatch;
+import lombok.*;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.Set;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemSearchCriteria {
+    private ItemStatus status;
+    private Long assigneeId;
+    private Set<Long> tagId;
+    // ANY: items con alguno de los tags; ALL: items con todos los tags.
+    @Builder.Default
+    private TagMatch tagMatch = TagMatch.ANY;
+    // Texto libre buscado sobre la descripción (búsqueda de texto completo).
+    private String q;
+
+    public boolean isEmpty() {
+        return this.status == null && this.assigneeId == null && CollectionUtils.isEmpty(this.tagId) &&
+               !StringUtils.hasText(this.q);
+    }
+}
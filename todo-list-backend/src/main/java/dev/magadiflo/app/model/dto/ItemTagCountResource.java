@@ -0,0 +1,14 @@
+package dev.magadiflo.app.model.dto;
+
+import lombok.*;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemTagCountResource {
+    private TagResource tag;
+    private Long count;
+}
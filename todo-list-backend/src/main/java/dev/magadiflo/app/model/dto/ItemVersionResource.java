@@ -0,0 +1,17 @@
+package dev.magadiflo.app.model.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemVersionResource {
+    @NotNull
+    private Long id;
+    @NotNull
+    private Long version;
+}
@@ -0,0 +1,19 @@
+package dev.magadiflo.app.model.entity;
+
+import dev.magadiflo.app.model.enums.ItemCounterDimension;
+import lombok.*;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Setter
+@Getter
+public class ItemCounter {
+    // Sin asignar se guarda como dimensionKey NONE dentro de la dimensión ASSIGNEE.
+    public static final String UNASSIGNED_KEY = "NONE";
+
+    private ItemCounterDimension dimension;
+    private String dimensionKey;
+    private Long itemCount;
+}
@@ -0,0 +1,11 @@
+package dev.magadiflo.app.model.enums;
+
+public enum ItemBulkResultStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    INVALID,
+    NOT_FOUND,
+    VERSION_CONFLICT,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package dev.magadiflo.app.model.enums;
+
+public enum ItemEventType {
+    SNAPSHOT,
+    CREATED,
+    UPDATED,
+    DELETED,
+    // Items DONE que salieron de los activos hacia el histórico (GET /api/v1/items/archive)
+    ARCHIVED
+}
@@ -0,0 +1,7 @@
+package dev.magadiflo.app.model.enums;
+
+public enum ItemImportEventType {
+    REJECTED,
+    PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,6 @@
+package dev.magadiflo.app.model.enums;
+
+public enum ItemImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,58 @@
+package dev.magadiflo.app.replica;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Última escritura de un cliente sobre un item: el id y la versión que quedó, o que el item se eliminó. Una réplica
+ * que ya tiene esa versión (o ya no tiene el item) aplicó esa escritura y, como la replicación respeta el orden de
+ * los commits, también todas las anteriores; entonces puede responder cualquier lectura de ese cliente.
+ */
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ItemWriteToken {
+
+    private static final String SEPARATOR = ".";
+    private static final String DELETED = "deleted";
+
+    private final Long itemId;
+    // null cuando el item se eliminó
+    private final Long version;
+
+    public static ItemWriteToken written(Long itemId, Long version) {
+        return new ItemWriteToken(itemId, version);
+    }
+
+    public static ItemWriteToken deleted(Long itemId) {
+        return new ItemWriteToken(itemId, null);
+    }
+
+    /**
+     * Lee el valor de la cookie. Un valor que no se puede interpretar se ignora: solo se pierde la garantía de leer
+     * la propia escritura.
+     */
+    public static ItemWriteToken decode(String value) {
+        if (value == null || value.isBlank()) return null;
+
+        int separatorIndex = value.indexOf(SEPARATOR);
+        if (separatorIndex < 0) return null;
+        try {
+            Long itemId = Long.valueOf(value.substring(0, separatorIndex));
+            String version = value.substring(separatorIndex + 1);
+            return DELETED.equals(version) ? deleted(itemId) : written(itemId, Long.valueOf(version));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public boolean isDeleted() {
+        return this.version == null;
+    }
+
+    public String encode() {
+        return this.itemId + SEPARATOR + (this.isDeleted() ? DELETED : this.version);
+    }
+}
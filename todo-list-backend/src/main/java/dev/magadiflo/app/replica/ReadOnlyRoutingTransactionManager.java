@@ -0,0 +1,27 @@
+package dev.magadiflo.app.replica;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link R2dbcTransactionManager} que marca las transacciones de solo lectura en el contexto de Reactor mientras
+ * obtiene su conexión, para que {@link ReadReplicaConnectionFactory} la pida a una réplica. No alcanza con
+ * {@code TransactionSynchronizationManager#isCurrentTransactionReadOnly()}: Spring lo asigna después de obtener la
+ * conexión.
+ */
+public class ReadOnlyRoutingTransactionManager extends R2dbcTransactionManager {
+
+    public ReadOnlyRoutingTransactionManager(ConnectionFactory connectionFactory) {
+        super(connectionFactory);
+    }
+
+    @Override
+    protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                 TransactionDefinition definition) {
+        Mono<Void> begin = super.doBegin(synchronizationManager, transaction, definition);
+        return definition.isReadOnly() ? begin.contextWrite(ReadReplicaConnectionFactory::readOnly) : begin;
+    }
+}
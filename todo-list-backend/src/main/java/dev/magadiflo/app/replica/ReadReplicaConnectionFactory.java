@@ -0,0 +1,266 @@
+package dev.magadiflo.app.replica;
+
+import dev.magadiflo.app.config.ReadReplicaProperties;
+import dev.magadiflo.app.config.TimedConnectionFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reparte las conexiones entre la base de datos principal y sus réplicas de lectura. Solo las transacciones de solo
+ * lectura ({@code @Transactional(readOnly = true)}, marcadas por {@link ReadOnlyRoutingTransactionManager}) van a
+ * una réplica; las demás y las sentencias fuera de una transacción usan la principal.
+ * <ul>
+ *     <li>Las réplicas se turnan (round robin). Cada {@code health-check-interval} se consulta a cada una si responde
+ *     y cuánto retraso de replicación tiene; una réplica que no responde, que falla al entregar una conexión o que
+ *     supera {@code max-lag} deja de recibir lecturas hasta la siguiente revisión que la encuentre bien. Sin réplicas
+ *     disponibles las lecturas van a la principal.</li>
+ *     <li>Si el contexto de Reactor trae la última escritura del cliente ({@link ItemWriteToken}), antes de entregar
+ *     la conexión de la réplica se comprueba que ya tenga esa versión del item; si no la tiene se usa la principal.</li>
+ *     <li>Un contexto marcado con {@link #primary(Context)} usa siempre la principal, aun en transacciones de solo
+ *     lectura.</li>
+ * </ul>
+ */
+@Slf4j
+public class ReadReplicaConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    private static final String READ_ONLY = ReadReplicaConnectionFactory.class.getName() + ".READ_ONLY";
+    private static final String PRIMARY = ReadReplicaConnectionFactory.class.getName() + ".PRIMARY";
+    // Con la réplica al día (todo lo recibido ya aplicado) el retraso es 0 aunque la principal no tenga escrituras
+    private static final String REPLICATION_LAG_QUERY = """
+            SELECT pg_is_in_recovery() AS in_recovery,
+                   CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE extract(epoch FROM now() - pg_last_xact_replay_timestamp()) END AS lag_seconds
+            """;
+    private static final String ITEM_VERSION_QUERY = "SELECT 1 FROM items WHERE id = $1 AND version >= $2";
+    private static final String ITEM_DELETED_QUERY = "SELECT 1 WHERE NOT EXISTS (SELECT 1 FROM items WHERE id = $1)";
+
+    private final TimedConnectionFactory primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter unavailableFallbacks;
+    private final Counter readYourWritesFallbacks;
+    private final Disposable healthCheck;
+
+    public ReadReplicaConnectionFactory(TimedConnectionFactory primary, Map<String, TimedConnectionFactory> replicas,
+                                        ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLag = properties.getMaxLag();
+        replicas.forEach((name, connectionFactory) -> {
+            Replica replica = new Replica(name, connectionFactory);
+            Gauge.builder("r2dbc.replica.available", replica, r -> r.available ? 1 : 0)
+                    .description("1 si la réplica recibe lecturas, 0 si está fuera de la rotación")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            TimeGauge.builder("r2dbc.replica.lag", replica, TimeUnit.MILLISECONDS, r -> r.lagMillis)
+                    .description("Retraso de replicación medido en la última revisión")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            this.replicas.add(replica);
+        });
+        this.unavailableFallbacks = this.fallbackCounter("unavailable", meterRegistry);
+        this.readYourWritesFallbacks = this.fallbackCounter("read-your-writes", meterRegistry);
+        this.healthCheck = Flux.interval(Duration.ZERO, properties.getHealthCheckInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> Flux.fromIterable(this.replicas)
+                        .flatMap(replica -> this.check(replica, properties.getHealthCheckInterval())))
+                .subscribe();
+    }
+
+    /**
+     * Marca el contexto de Reactor de una transacción de solo lectura, para que su conexión salga de una réplica.
+     */
+    public static Context readOnly(Context context) {
+        return context.put(READ_ONLY, Boolean.TRUE);
+    }
+
+    /**
+     * Marca el contexto de Reactor para que sus conexiones salgan siempre de la principal, para lecturas que deben ver
+     * lo último confirmado (por ejemplo las que resuelven una notificación de la base de datos).
+     */
+    public static Context primary(Context context) {
+        return context.put(PRIMARY, Boolean.TRUE);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.deferContextual(context -> {
+            if (!context.getOrDefault(READ_ONLY, Boolean.FALSE) || context.getOrDefault(PRIMARY, Boolean.FALSE)) {
+                return this.primary.create();
+            }
+            ItemWriteToken lastWrite = context.getOrDefault(ItemWriteToken.class, null);
+            return this.replicaConnection(this.availableReplicas(), 0)
+                    .flatMap(connection -> lastWrite == null ? Mono.just(connection) : this.requireWrite(connection, lastWrite))
+                    .switchIfEmpty(Mono.defer(this.primary::create));
+        });
+    }
+
+    public List<TimedConnectionFactory> getReplicaConnectionFactories() {
+        return this.replicas.stream()
+                .map(replica -> replica.connectionFactory)
+                .toList();
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return this.primary.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return this.primary;
+    }
+
+    @Override
+    public void dispose() {
+        this.healthCheck.dispose();
+        this.replicas.forEach(replica -> replica.connectionFactory.dispose());
+        this.primary.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return this.primary.isDisposed();
+    }
+
+    private List<Replica> availableReplicas() {
+        List<Replica> available = this.replicas.stream()
+                .filter(replica -> replica.available)
+                .toList();
+        if (available.size() < 2) return available;
+
+        int first = Math.floorMod(this.nextReplica.getAndIncrement(), available.size());
+        List<Replica> rotated = new ArrayList<>(available.subList(first, available.size()));
+        rotated.addAll(available.subList(0, first));
+        return rotated;
+    }
+
+    /**
+     * Pide la conexión a las réplicas en orden; la que falla queda fuera de la rotación y se pasa a la siguiente.
+     * Vacío si ninguna la entrega.
+     */
+    private Mono<Connection> replicaConnection(List<Replica> candidates, int index) {
+        if (index == candidates.size()) {
+            this.unavailableFallbacks.increment();
+            return Mono.empty();
+        }
+        Replica replica = candidates.get(index);
+        return replica.connectionFactory.create()
+                .onErrorResume(throwable -> {
+                    this.markUnavailable(replica, "no entrega conexiones: " + throwable.getMessage());
+                    return this.replicaConnection(candidates, index + 1);
+                });
+    }
+
+    /**
+     * Devuelve la conexión si la réplica ya aplicó la última escritura del cliente; si no, la cierra y queda vacío.
+     */
+    private Mono<Connection> requireWrite(Connection connection, ItemWriteToken lastWrite) {
+        Mono<Boolean> applied = lastWrite.isDeleted() ?
+                this.hasRows(connection.createStatement(ITEM_DELETED_QUERY)
+                        .bind("$1", lastWrite.getItemId())) :
+                this.hasRows(connection.createStatement(ITEM_VERSION_QUERY)
+                        .bind("$1", lastWrite.getItemId())
+                        .bind("$2", lastWrite.getVersion()));
+        return applied
+                .onErrorReturn(false)
+                .flatMap(caughtUp -> {
+                    if (caughtUp) return Mono.just(connection);
+
+                    this.readYourWritesFallbacks.increment();
+                    log.debug("La réplica todavía no tiene la escritura {}, se lee de la principal", lastWrite);
+                    return Mono.from(connection.close()).then(Mono.empty());
+                });
+    }
+
+    private Mono<Boolean> hasRows(Statement statement) {
+        return Flux.from(statement.execute())
+                .concatMap(result -> result.map((row, rowMetadata) -> Boolean.TRUE))
+                .hasElements();
+    }
+
+    private Mono<Void> check(Replica replica, Duration timeout) {
+        return Mono.usingWhen(replica.connectionFactory.create(),
+                        connection -> Flux.from(connection.createStatement(REPLICATION_LAG_QUERY).execute())
+                                .concatMap(result -> result.map((row, rowMetadata) -> {
+                                    Number lagSeconds = row.get("lag_seconds", Number.class);
+                                    return new ReplicaStatus(Boolean.TRUE.equals(row.get("in_recovery", Boolean.class)),
+                                            lagSeconds == null ? 0 : Math.round(lagSeconds.doubleValue() * 1000));
+                                }))
+                                .next(),
+                        Connection::close)
+                .timeout(timeout)
+                .doOnNext(status -> this.update(replica, status))
+                .onErrorResume(throwable -> {
+                    this.markUnavailable(replica, "no responde: " + throwable.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void update(Replica replica, ReplicaStatus status) {
+        replica.lagMillis = status.lagMillis();
+        if (!status.inRecovery() && !replica.notInRecoveryLogged) {
+            replica.notInRecoveryLogged = true;
+            log.warn("La réplica {} no está en recuperación: no replica de la principal y sus lecturas pueden no coincidir",
+                    replica.name);
+        }
+        if (this.maxLag != null && status.lagMillis() > this.maxLag.toMillis()) {
+            this.markUnavailable(replica, "tiene %d ms de retraso".formatted(status.lagMillis()));
+        } else if (!replica.available) {
+            replica.available = true;
+            log.info("Réplica {} disponible para lecturas (retraso {} ms)", replica.name, status.lagMillis());
+        }
+    }
+
+    private void markUnavailable(Replica replica, String reason) {
+        if (replica.available) {
+            replica.available = false;
+            log.warn("Réplica {} fuera de la rotación de lecturas, {}", replica.name, reason);
+        }
+    }
+
+    private Counter fallbackCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("r2dbc.replica.fallback")
+                .description("Transacciones de solo lectura que se ejecutaron en la principal")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record ReplicaStatus(boolean inRecovery, long lagMillis) {
+    }
+
+    private static class Replica {
+
+        private final String name;
+        private final TimedConnectionFactory connectionFactory;
+        // Empieza fuera de la rotación hasta que la primera revisión la encuentre bien
+        private volatile boolean available;
+        private volatile long lagMillis;
+        private volatile boolean notInRecoveryLogged;
+
+        Replica(String name, TimedConnectionFactory connectionFactory) {
+            this.name = name;
+            this.connectionFactory = connectionFactory;
+        }
+    }
+}
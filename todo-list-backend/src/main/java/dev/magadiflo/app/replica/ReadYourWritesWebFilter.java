@@ -0,0 +1,65 @@
+package dev.magadiflo.app.replica;
+
+import dev.magadiflo.app.config.ReadReplicaProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lee tus escrituras con réplicas de lectura. Cuando un endpoint modifica un item registra la escritura con
+ * {@link #recordWrite(ServerWebExchange, ItemWriteToken)} y este filtro la envía al cliente en una cookie que dura
+ * {@code read-your-writes-window}. En las peticiones siguientes la pasa al contexto de Reactor, donde
+ * {@link ReadReplicaConnectionFactory} la usa para no leer de una réplica que todavía no la tiene.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "app.r2dbc.replicas", name = "enabled", havingValue = "true")
+public class ReadYourWritesWebFilter implements WebFilter {
+
+    public static final String COOKIE_NAME = "item-write";
+    private static final String LAST_WRITE_ATTRIBUTE = ReadYourWritesWebFilter.class.getName() + ".LAST_WRITE";
+
+    private final ReadReplicaProperties properties;
+
+    /**
+     * Registra la escritura de un item en la petición actual. Sin réplicas (o con read-your-writes apagado) no hace
+     * nada.
+     */
+    public static void recordWrite(ServerWebExchange exchange, ItemWriteToken itemWriteToken) {
+        exchange.getAttributes().put(LAST_WRITE_ATTRIBUTE, itemWriteToken);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!this.properties.isReadYourWrites()) {
+            return chain.filter(exchange);
+        }
+
+        exchange.getResponse().beforeCommit(() -> {
+            ItemWriteToken lastWrite = exchange.getAttribute(LAST_WRITE_ATTRIBUTE);
+            if (lastWrite != null) {
+                exchange.getResponse().addCookie(ResponseCookie.from(COOKIE_NAME, lastWrite.encode())
+                        .path("/")
+                        .maxAge(this.properties.getReadYourWritesWindow())
+                        .httpOnly(true)
+                        .sameSite("Lax")
+                        .build());
+            }
+            return Mono.empty();
+        });
+
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(COOKIE_NAME);
+        ItemWriteToken lastWrite = cookie == null ? null : ItemWriteToken.decode(cookie.getValue());
+        if (lastWrite == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(ItemWriteToken.class, lastWrite));
+    }
+}
@@ -0,0 +1,190 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.mapper.ItemResourceRowMapper;
+import dev.magadiflo.app.model.dto.ArchivedItemSearchCriteria;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.util.ItemCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Histórico de items (tabla items_archive, particionada por mes de last_modified_date, ver
+ * 11_create_items_archive_table). Los items DONE se mueven desde items junto con sus items_tags, que quedan como un
+ * arreglo de ids en la fila archivada; las lecturas devuelven el mismo {@link ItemResource} que los items activos.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ItemArchiveRepository {
+
+    private static final String SELECT_ARCHIVED_ITEM_RESOURCES = """
+            SELECT a.id, a.description, a.status, a.version, a.created_date, a.last_modified_date,
+                p.id AS assignee_id, p.first_name AS assignee_first_name, p.last_name AS assignee_last_name,
+                at.tag_ids, at.tag_names
+            FROM items_archive AS a
+                LEFT JOIN persons AS p ON(p.id = a.assignee_id)
+                LEFT JOIN LATERAL (SELECT array_agg(t.id ORDER BY t.name, t.id) AS tag_ids,
+                                          array_agg(t.name ORDER BY t.name, t.id) AS tag_names
+                                   FROM tags AS t
+                                   WHERE t.id = ANY(a.tag_ids)) AS at ON(true)
+            """;
+    static final String FIND_BY_ID = SELECT_ARCHIVED_ITEM_RESOURCES + " WHERE a.id = :itemId";
+    static final String MOVE_ITEMS = """
+            WITH candidates AS (
+                SELECT id
+                FROM items
+                WHERE status = 'DONE' AND last_modified_date < :cutoff
+                ORDER BY last_modified_date, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ), moved_tags AS (
+                DELETE FROM items_tags
+                WHERE item_id IN (SELECT id FROM candidates)
+                RETURNING item_id, tag_id
+            ), moved AS (
+                DELETE FROM items
+                WHERE id IN (SELECT id FROM candidates)
+                RETURNING id, description, status, version, created_date, last_modified_date, assignee_id
+            )
+            INSERT INTO items_archive(id, description, status, version, created_date, last_modified_date,
+                                      assignee_id, tag_ids, archived_date)
+            SELECT m.id, m.description, m.status, m.version, m.created_date, m.last_modified_date,
+                m.assignee_id, coalesce(mt.tag_ids, '{}'), :now
+            FROM moved AS m
+                LEFT JOIN (SELECT item_id, array_agg(tag_id ORDER BY tag_id) AS tag_ids
+                           FROM moved_tags
+                           GROUP BY item_id) AS mt ON(mt.item_id = m.id)
+            RETURNING id, last_modified_date
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final ItemResourceRowMapper itemResourceRowMapper;
+    private final ItemNotificationRepository itemNotificationRepository;
+
+    /**
+     * Crea las particiones mensuales que faltan para los items DONE modificados antes de {@code cutoff}. Se hace en
+     * su propia sentencia, fuera de las transacciones que mueven los items: crear una partición bloquea items_archive
+     * por completo y así el bloqueo dura solo lo que tarda el DDL. Devuelve la cantidad de particiones creadas.
+     */
+    public Mono<Integer> createPartitions(LocalDateTime cutoff) {
+        return this.databaseClient.sql("""
+                        SELECT create_items_archive_partitions(min(last_modified_date), max(last_modified_date)) AS created
+                        FROM items
+                        WHERE status = 'DONE' AND last_modified_date < :cutoff
+                        """)
+                .bind("cutoff", cutoff)
+                .map(row -> row.get("created", Integer.class))
+                .one();
+    }
+
+    /**
+     * Mueve a items_archive, en una transacción, hasta {@code limit} items DONE modificados antes de {@code cutoff}
+     * (los más antiguos primero) junto con sus items_tags, y devuelve cuántos movió. Vacío si otra instancia está
+     * archivando en ese momento.
+     * <ul>
+     *     <li>Un único DELETE ... RETURNING por tabla alimenta el INSERT, así cada fila se lee una sola vez.</li>
+     *     <li>Los items que otra transacción tiene bloqueados (se están modificando) se saltan; al modificarse dejan
+     *     de cumplir la antigüedad.</li>
+     *     <li>Los triggers no notifican las filas eliminadas: la transacción envía una sola notificación ARCHIVE con
+     *     el cursor del último item archivado, así el feed no recibe eventos DELETED de items que siguen existiendo
+     *     en el histórico. Los contadores de item_counters se descuentan como en cualquier eliminación.</li>
+     * </ul>
+     */
+    public Mono<Long> archive(LocalDateTime cutoff, int limit, LocalDateTime now) {
+        return this.databaseClient.sql("SELECT pg_try_advisory_xact_lock(hashtext('items_archive')) AS locked")
+                .map(row -> row.get("locked", Boolean.class))
+                .one()
+                .filter(Boolean::booleanValue)
+                .flatMap(locked -> this.itemNotificationRepository.suppressTriggerNotifications()
+                        .thenMany(this.moveItems(cutoff, limit, now))
+                        .collectList()
+                        .flatMap(archived -> archived.stream()
+                                .max(Comparator.comparing(Item::getLastModifiedDate).thenComparing(Item::getId))
+                                .map(last -> this.itemNotificationRepository.notifyArchived(ItemCursor.of(last)).thenReturn((long) archived.size()))
+                                .orElseGet(() -> Mono.just(0L))))
+                .as(this.transactionalOperator::transactional);
+    }
+
+    private Flux<Item> moveItems(LocalDateTime cutoff, int limit, LocalDateTime now) {
+        return this.databaseClient.sql(MOVE_ITEMS)
+                .bind("cutoff", cutoff)
+                .bind("limit", limit)
+                .bind("now", now)
+                .map(row -> Item.builder()
+                        .id(row.get("id", Long.class))
+                        .lastModifiedDate(row.get("last_modified_date", LocalDateTime.class))
+                        .build())
+                .all();
+    }
+
+    /**
+     * Busca en el histórico con los filtros recibidos, ordenado y paginado por keyset sobre (last_modified_date, id)
+     * igual que los items activos. Con {@code from}/{@code to} solo se leen las particiones de esos meses.
+     */
+    public Flux<ItemResource> findAll(ArchivedItemSearchCriteria criteria, ItemCursor after, int limit) {
+        SqlStatement statement = findAllStatement(criteria, after, limit);
+        return this.databaseClient.sql(statement.sql())
+                .bindValues(statement.parameters())
+                .map(this.itemResourceRowMapper)
+                .all();
+    }
+
+    static SqlStatement findAllStatement(ArchivedItemSearchCriteria criteria, ItemCursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (criteria.getFrom() != null) {
+            conditions.add("a.last_modified_date >= :from");
+            parameters.put("from", criteria.getFrom().atStartOfDay());
+        }
+
+        if (criteria.getTo() != null) {
+            conditions.add("a.last_modified_date < :to");
+            parameters.put("to", criteria.getTo().atStartOfDay());
+        }
+
+        if (criteria.getAssigneeId() != null) {
+            conditions.add("a.assignee_id = :assigneeId");
+            parameters.put("assigneeId", criteria.getAssigneeId());
+        }
+
+        if (criteria.getTagId() != null) {
+            conditions.add(":tagId = ANY(a.tag_ids)");
+            parameters.put("tagId", criteria.getTagId());
+        }
+
+        if (after != null) {
+            conditions.add("(a.last_modified_date, a.id) > (:lastModifiedDate, :id)");
+            parameters.put("lastModifiedDate", after.getLastModifiedDate());
+            parameters.put("id", after.getId());
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_ARCHIVED_ITEM_RESOURCES);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY a.last_modified_date, a.id LIMIT :limit");
+        parameters.put("limit", limit);
+
+        return new SqlStatement(sql.toString(), parameters);
+    }
+
+    public Mono<ItemResource> findById(Long itemId) {
+        return this.databaseClient.sql(FIND_BY_ID)
+                .bind("itemId", itemId)
+                .map(this.itemResourceRowMapper)
+                .one();
+    }
+}
@@ -0,0 +1,152 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.entity.ItemTag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Escrituras masivas de items. Cada operación es una única sentencia para todo el lote: los valores viajan como
+ * arreglos y se expanden con {@code unnest}, de modo que el texto de la sentencia no depende del tamaño del lote.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ItemBulkRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Reserva {@code count} ids de la secuencia de items. Los ids de una transacción que se deshace no se reutilizan,
+     * igual que con un INSERT.
+     */
+    public Flux<Long> nextItemIds(int count) {
+        return this.databaseClient.sql("SELECT nextval(pg_get_serial_sequence('items', 'id')) FROM generate_series(1, :count)")
+                .bind("count", count)
+                .map((row, rowMetadata) -> row.get(0, Long.class))
+                .all();
+    }
+
+    /**
+     * Inserta los items, que deben traer el id ya asignado (ver {@link #nextItemIds(int)}), y devuelve el id y la
+     * versión de cada uno. El orden del resultado no está garantizado.
+     */
+    public Flux<Item> insertAll(List<Item> items, LocalDateTime now) {
+        return this.databaseClient.sql("""
+                        INSERT INTO items(id, description, status, assignee_id, created_date, last_modified_date)
+                        SELECT u.id, u.description, u.status, u.assignee_id, :now, :now
+                        FROM unnest(CAST(:ids AS BIGINT[]), CAST(:descriptions AS VARCHAR[]), CAST(:statuses AS VARCHAR[]),
+                                CAST(:assigneeIds AS BIGINT[]))
+                            AS u(id, description, status, assignee_id)
+                        RETURNING id, version, created_date, last_modified_date
+                        """)
+                .bind("now", now)
+                .bind("ids", items.stream().map(Item::getId).toArray(Long[]::new))
+                .bind("descriptions", items.stream().map(Item::getDescription).toArray(String[]::new))
+                .bind("statuses", items.stream().map(item -> item.getStatus().name()).toArray(String[]::new))
+                .bind("assigneeIds", items.stream().map(Item::getAssigneeId).toArray(Long[]::new))
+                .map((row, rowMetadata) -> Item.builder()
+                        .id(row.get("id", Long.class))
+                        .version(row.get("version", Long.class))
+                        .createdDate(row.get("created_date", LocalDateTime.class))
+                        .lastModifiedDate(row.get("last_modified_date", LocalDateTime.class))
+                        .build())
+                .all();
+    }
+
+    /**
+     * Actualiza los items cuya versión coincide con la esperada y devuelve el id y la nueva versión de cada uno. Los
+     * items ausentes o con otra versión no se modifican y no aparecen en el resultado.
+     */
+    public Flux<Item> updateAll(List<Item> items, LocalDateTime now) {
+        return this.databaseClient.sql("""
+                        UPDATE items AS i
+                        SET description = u.description, status = u.status, assignee_id = u.assignee_id,
+                            version = i.version + 1, last_modified_date = :now
+                        FROM unnest(CAST(:ids AS BIGINT[]), CAST(:versions AS BIGINT[]), CAST(:descriptions AS VARCHAR[]),
+                                CAST(:statuses AS VARCHAR[]), CAST(:assigneeIds AS BIGINT[]))
+                            AS u(id, version, description, status, assignee_id)
+                        WHERE i.id = u.id AND i.version = u.version
+                        RETURNING i.id, i.version
+                        """)
+                .bind("now", now)
+                .bind("ids", items.stream().map(Item::getId).toArray(Long[]::new))
+                .bind("versions", items.stream().map(Item::getVersion).toArray(Long[]::new))
+                .bind("descriptions", items.stream().map(Item::getDescription).toArray(String[]::new))
+                .bind("statuses", items.stream().map(item -> item.getStatus().name()).toArray(String[]::new))
+                .bind("assigneeIds", items.stream().map(Item::getAssigneeId).toArray(Long[]::new))
+                .map((row, rowMetadata) -> Item.builder()
+                        .id(row.get("id", Long.class))
+                        .version(row.get("version", Long.class))
+                        .build())
+                .all();
+    }
+
+    /**
+     * Elimina los items (y sus items_tags) cuya versión coincide con la esperada y devuelve los ids eliminados. Ambas
+     * tablas se borran en una sola sentencia a partir de los items efectivamente eliminados: con dos sentencias, un
+     * item que otra transacción modifica entre ambas conservaría la versión nueva pero perdería sus tags. La clave
+     * foránea de items_tags se comprueba al final de la sentencia, cuando ya no quedan filas que apunten a esos items.
+     */
+    public Flux<Long> deleteAll(List<Item> items) {
+        return this.databaseClient.sql("""
+                        WITH deleted AS (
+                            DELETE FROM items AS i
+                            USING unnest(CAST(:ids AS BIGINT[]), CAST(:versions AS BIGINT[])) AS u(id, version)
+                            WHERE i.id = u.id AND i.version = u.version
+                            RETURNING i.id
+                        ), deleted_tags AS (
+                            DELETE FROM items_tags
+                            WHERE item_id IN (SELECT id FROM deleted)
+                        )
+                        SELECT id FROM deleted
+                        """)
+                .bind("ids", items.stream().map(Item::getId).toArray(Long[]::new))
+                .bind("versions", items.stream().map(Item::getVersion).toArray(Long[]::new))
+                .map((row, rowMetadata) -> row.get("id", Long.class))
+                .all();
+    }
+
+    public Mono<Long> insertItemTags(Collection<ItemTag> itemTags) {
+        if (itemTags.isEmpty()) return Mono.just(0L);
+
+        return this.databaseClient.sql("""
+                        INSERT INTO items_tags(item_id, tag_id)
+                        SELECT * FROM unnest(CAST(:itemIds AS BIGINT[]), CAST(:tagIds AS BIGINT[]))
+                        ON CONFLICT (item_id, tag_id) DO NOTHING
+                        """)
+                .bind("itemIds", itemTags.stream().map(ItemTag::getItemId).toArray(Long[]::new))
+                .bind("tagIds", itemTags.stream().map(ItemTag::getTagId).toArray(Long[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteItemTags(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) return Mono.just(0L);
+
+        return this.databaseClient.sql("DELETE FROM items_tags WHERE item_id = ANY(:itemIds)")
+                .bind("itemIds", itemIds.toArray(Long[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Versión actual de cada item existente, para explicar por qué no se pudo modificar un item.
+     */
+    public Mono<Map<Long, Long>> findVersionsByIds(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) return Mono.just(Map.of());
+
+        return this.databaseClient.sql("SELECT id, version FROM items WHERE id = ANY(:itemIds)")
+                .bind("itemIds", itemIds.toArray(Long[]::new))
+                .map((row, rowMetadata) -> Map.entry(row.get("id", Long.class), row.get("version", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+}
@@ -0,0 +1,121 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.model.entity.ItemCounter;
+import dev.magadiflo.app.model.enums.ItemCounterDimension;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Contadores de items por estado, asignado y tag (tabla item_counters). Los mantienen los triggers de items e
+ * items_tags dentro de la misma transacción que modifica los items (10_create_item_counters_table).
+ */
+@RequiredArgsConstructor
+@Repository
+public class ItemCounterRepository {
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    public Flux<ItemCounter> findAll() {
+        return this.databaseClient.sql("""
+                        SELECT dimension, dimension_key, item_count
+                        FROM item_counters
+                        WHERE item_count <> 0
+                        ORDER BY dimension, dimension_key
+                        """)
+                .map(row -> ItemCounter.builder()
+                        .dimension(ItemCounterDimension.valueOf(row.get("dimension", String.class)))
+                        .dimensionKey(row.get("dimension_key", String.class))
+                        .itemCount(row.get("item_count", Long.class))
+                        .build())
+                .all();
+    }
+
+    /**
+     * Compara los contadores con los valores calculados a partir de items e items_tags y corrige los que no coincidan.
+     * La comparación no bloquea: al ser una sola sentencia ve items, items_tags e item_counters en la misma instantánea,
+     * y los triggers actualizan los contadores en la misma transacción que los items, así que solo encuentra diferencias
+     * reales. Solo si las hay se bloquea la tabla y se recalculan únicamente esas claves. Devuelve la cantidad de
+     * contadores corregidos.
+     */
+    public Mono<Long> reconcile() {
+        return this.databaseClient.sql("""
+                        WITH actual AS (
+                            SELECT 'STATUS' AS dimension, status AS dimension_key, count(*) AS item_count
+                            FROM items GROUP BY status
+                            UNION ALL
+                            SELECT 'ASSIGNEE', coalesce(assignee_id::TEXT, 'NONE'), count(*)
+                            FROM items GROUP BY assignee_id
+                            UNION ALL
+                            SELECT 'TAG', tag_id::TEXT, count(*)
+                            FROM items_tags GROUP BY tag_id
+                        )
+                        SELECT dimension, dimension_key
+                        FROM actual AS a
+                            FULL JOIN item_counters AS c USING(dimension, dimension_key)
+                        WHERE coalesce(a.item_count, 0) <> coalesce(c.item_count, 0)
+                        """)
+                .map(row -> ItemCounter.builder()
+                        .dimension(ItemCounterDimension.valueOf(row.get("dimension", String.class)))
+                        .dimensionKey(row.get("dimension_key", String.class))
+                        .build())
+                .all()
+                .collectList()
+                .flatMap(drifted -> drifted.isEmpty() ? Mono.just(0L) : this.fix(drifted));
+    }
+
+    /**
+     * Recalcula y reescribe los contadores recibidos. El bloqueo de la tabla espera a las transacciones que ya
+     * actualizaron contadores y detiene a las nuevas hasta terminar, así ningún cambio queda fuera del recálculo ni se
+     * cuenta dos veces.
+     */
+    private Mono<Long> fix(List<ItemCounter> drifted) {
+        return this.databaseClient.sql("LOCK TABLE item_counters IN SHARE ROW EXCLUSIVE MODE").then()
+                .then(this.databaseClient.sql("""
+                                WITH drifted AS (
+                                    SELECT dimension, dimension_key
+                                    FROM unnest(CAST(:dimensions AS TEXT[]), CAST(:dimensionKeys AS TEXT[])) AS d(dimension, dimension_key)
+                                ), actual AS (
+                                    SELECT 'STATUS' AS dimension, status AS dimension_key, count(*) AS item_count
+                                    FROM items
+                                    WHERE status IN (SELECT dimension_key FROM drifted WHERE dimension = 'STATUS')
+                                    GROUP BY status
+                                    UNION ALL
+                                    SELECT 'ASSIGNEE', coalesce(assignee_id::TEXT, 'NONE'), count(*)
+                                    FROM items
+                                    WHERE assignee_id IN (SELECT dimension_key::BIGINT FROM drifted
+                                                          WHERE dimension = 'ASSIGNEE' AND dimension_key <> 'NONE')
+                                        OR (assignee_id IS NULL AND EXISTS(SELECT 1 FROM drifted
+                                                                           WHERE dimension = 'ASSIGNEE' AND dimension_key = 'NONE'))
+                                    GROUP BY assignee_id
+                                    UNION ALL
+                                    SELECT 'TAG', tag_id::TEXT, count(*)
+                                    FROM items_tags
+                                    WHERE tag_id IN (SELECT dimension_key::BIGINT FROM drifted WHERE dimension = 'TAG')
+                                    GROUP BY tag_id
+                                ), fixed AS (
+                                    INSERT INTO item_counters(dimension, dimension_key, item_count)
+                                    SELECT d.dimension, d.dimension_key, coalesce(a.item_count, 0)
+                                    FROM drifted AS d
+                                        LEFT JOIN actual AS a USING(dimension, dimension_key)
+                                        LEFT JOIN item_counters AS c USING(dimension, dimension_key)
+                                    WHERE coalesce(a.item_count, 0) <> coalesce(c.item_count, 0)
+                                    ORDER BY d.dimension, d.dimension_key
+                                    ON CONFLICT (dimension, dimension_key) DO UPDATE SET item_count = EXCLUDED.item_count
+                                    RETURNING 1
+                                )
+                                SELECT count(*) AS corrected FROM fixed
+                                """)
+                        .bind("dimensions", drifted.stream().map(counter -> counter.getDimension().name()).toArray(String[]::new))
+                        .bind("dimensionKeys", drifted.stream().map(ItemCounter::getDimensionKey).toArray(String[]::new))
+                        .map(row -> row.get("corrected", Long.class))
+                        .one())
+                .as(this.transactionalOperator::transactional);
+    }
+}
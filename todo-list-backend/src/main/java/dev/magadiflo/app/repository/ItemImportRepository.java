@@ -0,0 +1,103 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.entity.ItemTag;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Escrituras de la importación de items con {@code COPY ... FROM STDIN} en formato CSV: las filas viajan como un
+ * flujo de datos y no como sentencias, sin parámetros ni planes que preparar. COPY no devuelve los ids generados, así
+ * que se reservan antes de la secuencia de items y se escriben de forma explícita, con lo que los items_tags se copian
+ * en la misma transacción sin volver a leer los items.
+ * <p>
+ * COPY se ejecuta directamente sobre la conexión de r2dbc-postgresql (debajo del pool y de r2dbc-proxy), por lo que
+ * estas sentencias no aparecen en el registro de consultas lentas ni en X-Query-Count.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ItemImportRepository {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Reserva {@code count} ids de la secuencia de items. Los ids de una transacción que se deshace no se reutilizan,
+     * igual que con un INSERT.
+     */
+    public Flux<Long> nextItemIds(int count) {
+        return this.databaseClient.sql("SELECT nextval(pg_get_serial_sequence('items', 'id')) FROM generate_series(1, :count)")
+                .bind("count", count)
+                .map((row, rowMetadata) -> row.get(0, Long.class))
+                .all();
+    }
+
+    /**
+     * Copia los items, que deben traer el id ya asignado, y devuelve la cantidad de filas escritas.
+     */
+    public Mono<Long> copyItems(List<Item> items, LocalDateTime now) {
+        String timestamp = TIMESTAMP.format(now);
+        StringBuilder csv = new StringBuilder(items.size() * 128);
+        for (Item item : items) {
+            csv.append(item.getId()).append(',');
+            appendQuoted(csv, item.getDescription());
+            csv.append(',').append(item.getStatus().name())
+                    .append(',').append(item.getAssigneeId() != null ? item.getAssigneeId().toString() : "")
+                    .append(',').append(timestamp)
+                    .append(',').append(timestamp)
+                    .append('\n');
+        }
+        return this.copyIn("COPY items(id, description, status, assignee_id, created_date, last_modified_date) FROM STDIN WITH (FORMAT csv)", csv);
+    }
+
+    public Mono<Long> copyItemTags(Collection<ItemTag> itemTags) {
+        if (itemTags.isEmpty()) return Mono.just(0L);
+
+        StringBuilder csv = new StringBuilder(itemTags.size() * 16);
+        for (ItemTag itemTag : itemTags) {
+            csv.append(itemTag.getItemId()).append(',').append(itemTag.getTagId()).append('\n');
+        }
+        return this.copyIn("COPY items_tags(item_id, tag_id) FROM STDIN WITH (FORMAT csv)", csv);
+    }
+
+    /**
+     * Usa la conexión de la transacción en curso, si la hay.
+     */
+    private Mono<Long> copyIn(String sql, CharSequence csv) {
+        byte[] data = csv.toString().getBytes(StandardCharsets.UTF_8);
+        return this.databaseClient.inConnection(connection -> postgresqlConnection(connection)
+                .copyIn(sql)
+                .from(data)
+                .build());
+    }
+
+    /**
+     * La conexión que entrega DatabaseClient está envuelta por Spring, el pool y, si está activo, r2dbc-proxy.
+     */
+    private static PostgresqlConnection postgresqlConnection(Connection connection) {
+        Object current = connection;
+        while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+            current = wrapped.unwrap();
+        }
+        if (current instanceof PostgresqlConnection postgresqlConnection) return postgresqlConnection;
+
+        throw new IllegalStateException("COPY requiere una conexión de r2dbc-postgresql y se obtuvo " + connection.getClass().getName());
+    }
+
+    private static void appendQuoted(StringBuilder csv, String value) {
+        csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
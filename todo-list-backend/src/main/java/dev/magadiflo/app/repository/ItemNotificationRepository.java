@@ -0,0 +1,51 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.listener.ItemChangeNotification;
+import dev.magadiflo.app.util.ItemCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Notificaciones del canal item_changes que envían las escrituras en lote (bulk, importación y archivado). Estas
+ * escrituras desactivan los triggers de notificación durante su transacción, que de otro modo notificarían cada
+ * sentencia (items y items_tags por separado), y envían una sola notificación por operación con todos los ids.
+ * <p>
+ * NOTIFY se entrega al confirmar la transacción, así que deben ejecutarse dentro de la transacción de la escritura.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ItemNotificationRepository {
+
+    private static final String CHANNEL = "item_changes";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Desactiva hasta el final de la transacción en curso las notificaciones de {@code notify_item_changes()}.
+     */
+    public Mono<Void> suppressTriggerNotifications() {
+        return this.databaseClient.sql("SELECT set_config('app.item_notifications', 'off', true)").then();
+    }
+
+    public Mono<Void> notify(ItemChangeNotification.Operation operation, Collection<Long> itemIds) {
+        return Flux.fromIterable(ItemChangeNotification.payloads(operation, itemIds))
+                .concatMap(this::send)
+                .then();
+    }
+
+    public Mono<Void> notifyArchived(ItemCursor archivedUntil) {
+        return this.send(ItemChangeNotification.Operation.ARCHIVE.name() + ":" + archivedUntil.encode());
+    }
+
+    private Mono<Void> send(String payload) {
+        return this.databaseClient.sql("SELECT pg_notify(:channel, :payload)")
+                .bind("channel", CHANNEL)
+                .bind("payload", payload)
+                .then();
+    }
+}
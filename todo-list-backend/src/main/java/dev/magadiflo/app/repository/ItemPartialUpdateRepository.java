@@ -0,0 +1,16 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.model.entity.Item;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface ItemPartialUpdateRepository {
+    /**
+     * Actualiza únicamente las columnas indicadas (nombre de columna → valor no nulo), además de version y
+     * last_modified_date, siempre que el item conserve la versión esperada. Devuelve la fila resultante o vacío si
+     * no hubo coincidencia.
+     */
+    Mono<Item> updateColumns(Long id, Long version, Map<String, Object> columns, LocalDateTime lastModifiedDate);
+}
@@ -0,0 +1,48 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.model.entity.Item;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class ItemPartialUpdateRepositoryImpl implements ItemPartialUpdateRepository {
+
+    private static final Set<String> UPDATABLE_COLUMNS = Set.of("description", "status", "assignee_id");
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    @Override
+    public Mono<Item> updateColumns(Long id, Long version, Map<String, Object> columns, LocalDateTime lastModifiedDate) {
+        if (!UPDATABLE_COLUMNS.containsAll(columns.keySet())) {
+            return Mono.error(new IllegalArgumentException("Columnas no actualizables: " + columns.keySet()));
+        }
+
+        String assignments = columns.keySet().stream()
+                .map(column -> "%s = :%s, ".formatted(column, column))
+                .collect(Collectors.joining());
+        DatabaseClient.GenericExecuteSpec executeSpec = this.r2dbcEntityTemplate.getDatabaseClient()
+                .sql("""
+                        UPDATE items
+                        SET %sversion = version + 1, last_modified_date = :lastModifiedDate
+                        WHERE id = :id AND version = :version
+                        RETURNING *
+                        """.formatted(assignments))
+                .bind("lastModifiedDate", lastModifiedDate)
+                .bind("id", id)
+                .bind("version", version);
+        for (Map.Entry<String, Object> column : columns.entrySet()) {
+            executeSpec = executeSpec.bind(column.getKey(), column.getValue());
+        }
+
+        return executeSpec
+                .map((row, rowMetadata) -> this.r2dbcEntityTemplate.getConverter().read(Item.class, row, rowMetadata))
+                .one();
+    }
+}
@@ -0,0 +1,61 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.mapper.ItemResourceRowMapper;
+import dev.magadiflo.app.model.dto.ItemResource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Modelo de lectura de items: una sola sentencia une items, persons, items_tags y tags, y agrega los tags de cada
+ * item en arreglos, de modo que cada {@link ItemResource} cuesta un único viaje a la base de datos.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ItemReadRepository {
+
+    private static final String SELECT_ITEM_RESOURCES = """
+            SELECT i.id, i.description, i.status, i.version, i.created_date, i.last_modified_date,
+                p.id AS assignee_id, p.first_name AS assignee_first_name, p.last_name AS assignee_last_name,
+                array_remove(array_agg(t.id ORDER BY t.name, t.id), NULL) AS tag_ids,
+                array_remove(array_agg(t.name ORDER BY t.name, t.id), NULL) AS tag_names
+            FROM items AS i
+                LEFT JOIN persons AS p ON(p.id = i.assignee_id)
+                LEFT JOIN items_tags AS it ON(it.item_id = i.id)
+                LEFT JOIN tags AS t ON(t.id = it.tag_id)
+            %s
+            GROUP BY i.id, p.id
+            ORDER BY i.last_modified_date, i.id
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final ItemResourceRowMapper itemResourceRowMapper;
+
+    /**
+     * @param fetchSize filas que el driver pide por viaje; el resto se pide a medida que el suscriptor consume
+     */
+    public Flux<ItemResource> findAll(int fetchSize) {
+        return this.databaseClient.sql(SELECT_ITEM_RESOURCES.formatted(""))
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(this.itemResourceRowMapper)
+                .all();
+    }
+
+    public Mono<ItemResource> findById(Long itemId) {
+        return this.databaseClient.sql(SELECT_ITEM_RESOURCES.formatted("WHERE i.id = :itemId"))
+                .bind("itemId", itemId)
+                .map(this.itemResourceRowMapper)
+                .one();
+    }
+
+    public Flux<ItemResource> findAllById(Collection<Long> itemIds) {
+        return this.databaseClient.sql(SELECT_ITEM_RESOURCES.formatted("WHERE i.id = ANY(:itemIds)"))
+                .bind("itemIds", itemIds.toArray(Long[]::new))
+                .map(this.itemResourceRowMapper)
+                .all();
+    }
+}
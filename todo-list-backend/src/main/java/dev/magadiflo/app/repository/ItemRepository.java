@@ -1,7 +1,51 @@
 package dev.magadiflo.app.repository;
 
+import dev.magadiflo.app.model.dto.ItemCollectionRevisionResource;
+import dev.magadiflo.app.model.dto.ItemRevisionResource;
 import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.enums.ItemStatus;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
 
-public interface ItemRepository extends R2dbcRepository<Item, Long> {
+import java.time.LocalDateTime;
+
+public interface ItemRepository extends R2dbcRepository<Item, Long>, ItemPartialUpdateRepository {
+    // Actualiza el item solo si conserva la versión esperada y devuelve la fila resultante.
+    @Query("""
+            UPDATE items
+            SET description = :description, status = :status, assignee_id = :assigneeId,
+                version = version + 1, last_modified_date = :lastModifiedDate
+            WHERE id = :id AND version = :version
+            RETURNING *
+            """)
+    Mono<Item> update(Long id, Long version, String description, ItemStatus status, Long assigneeId, LocalDateTime lastModifiedDate);
+
+    // Elimina el item solo si conserva la versión esperada. Devuelve la cantidad de filas afectadas (0 o 1).
+    @Modifying
+    @Query("DELETE FROM items WHERE id = :id AND version = :version")
+    Mono<Integer> deleteByIdAndVersion(Long id, Long version);
+
+    // Solo lo necesario para responder a un GET condicional, sin cargar relaciones. Renombrar el responsable o un tag
+    // no cambia la versión del item, por eso también se devuelve la última modificación de ellos.
+    @Query("""
+            SELECT i.id, i.version, i.last_modified_date,
+                greatest((SELECT p.last_modified_date FROM persons AS p WHERE p.id = i.assignee_id),
+                         (SELECT max(t.last_modified_date)
+                          FROM tags AS t
+                              INNER JOIN items_tags AS it ON(t.id = it.tag_id)
+                          WHERE it.item_id = i.id)) AS relations_last_modified_date
+            FROM items AS i
+            WHERE i.id = :id
+            """)
+    Mono<ItemRevisionResource> findRevisionById(Long id);
+
+    // Cambia con cualquier alta, modificación o baja de items. El total sale de item_counters (un contador por estado)
+    // y la fecha del índice idx_items_last_modified_date_id, así no se recorre la tabla.
+    @Query("""
+            SELECT (SELECT coalesce(sum(item_count), 0) FROM item_counters WHERE dimension = 'STATUS')::BIGINT AS item_count,
+                (SELECT max(last_modified_date) FROM items) AS last_modified_date
+            """)
+    Mono<ItemCollectionRevisionResource> findCollectionRevision();
 }
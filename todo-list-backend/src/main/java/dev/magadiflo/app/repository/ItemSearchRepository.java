@@ -0,0 +1,93 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.model.dto.ItemSearchCriteria;
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.enums.TagMatch;
+import dev.magadiflo.app.util.ItemCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Búsqueda de items con filtros opcionales. La sentencia se arma solo con las condiciones de los filtros recibidos,
+ * de modo que el filtrado ocurre en la base de datos y solo viajan las filas que coinciden. Los resultados se
+ * ordenan y paginan por keyset sobre (last_modified_date, id).
+ */
+@RequiredArgsConstructor
+@Repository
+public class ItemSearchRepository {
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    public Flux<Item> findItems(ItemSearchCriteria criteria, ItemCursor after, Integer limit) {
+        SqlStatement statement = findItemsStatement(criteria, after, limit);
+        return this.r2dbcEntityTemplate.getDatabaseClient()
+                .sql(statement.sql())
+                .bindValues(statement.parameters())
+                .map((row, rowMetadata) -> this.r2dbcEntityTemplate.getConverter().read(Item.class, row, rowMetadata))
+                .all();
+    }
+
+    static SqlStatement findItemsStatement(ItemSearchCriteria criteria, ItemCursor after, Integer limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (criteria.getStatus() != null) {
+            conditions.add("i.status = :status");
+            parameters.put("status", criteria.getStatus().name());
+        }
+
+        if (criteria.getAssigneeId() != null) {
+            conditions.add("i.assignee_id = :assigneeId");
+            parameters.put("assigneeId", criteria.getAssigneeId());
+        }
+
+        if (!CollectionUtils.isEmpty(criteria.getTagId())) {
+            // Ambas variantes parten del índice idx_items_tags_tag_id
+            if (criteria.getTagMatch() == TagMatch.ALL) {
+                conditions.add("""
+                        i.id IN (SELECT it.item_id FROM items_tags AS it
+                                 WHERE it.tag_id = ANY(:tagIds)
+                                 GROUP BY it.item_id
+                                 HAVING count(*) = :tagCount)""");
+                parameters.put("tagCount", (long) criteria.getTagId().size());
+            } else {
+                conditions.add("i.id IN (SELECT it.item_id FROM items_tags AS it WHERE it.tag_id = ANY(:tagIds))");
+            }
+            parameters.put("tagIds", criteria.getTagId().toArray(Long[]::new));
+        }
+
+        if (StringUtils.hasText(criteria.getQ())) {
+            // La expresión debe coincidir con la del índice idx_items_description_search para que se use
+            conditions.add("to_tsvector('spanish', i.description) @@ websearch_to_tsquery('spanish', :q)");
+            parameters.put("q", criteria.getQ());
+        }
+
+        if (after != null) {
+            conditions.add("(i.last_modified_date, i.id) > (:lastModifiedDate, :id)");
+            parameters.put("lastModifiedDate", after.getLastModifiedDate());
+            parameters.put("id", after.getId());
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT i.* FROM items AS i");
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY i.last_modified_date, i.id");
+        if (limit != null) {
+            sql.append(" LIMIT :limit");
+            parameters.put("limit", limit);
+        }
+
+        return new SqlStatement(sql.toString(), parameters);
+    }
+}
@@ -1,12 +1,44 @@
 package dev.magadiflo.app.repository;
 
 import dev.magadiflo.app.model.entity.ItemTag;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ItemTagRepository extends R2dbcRepository<ItemTag, Long> {
+    String FIND_ALL_BY_ITEM_IDS = "SELECT * FROM items_tags WHERE item_id = ANY(:itemIds)";
+
     Flux<ItemTag> findAllByItemId(Long itemId);
 
+    // Se usa un arreglo y no una colección para que el parámetro se envíe como un único valor y no se expanda a una
+    // lista IN (...), así la consulta mantiene el mismo texto sin importar cuántos ids se envíen.
+    @Query(FIND_ALL_BY_ITEM_IDS)
+    Flux<ItemTag> findAllByItemIds(Long[] itemIds);
+
     Mono<Integer> deleteAllByItemId(Long itemId);
+
+    // Quita los tags del item solo si el item conserva la versión esperada; si no, no afecta filas.
+    @Modifying
+    @Query("""
+            DELETE FROM items_tags
+            WHERE item_id = :itemId
+                AND EXISTS(SELECT 1 FROM items WHERE id = :itemId AND version = :version)
+            """)
+    Mono<Integer> deleteAllByItemIdAndItemVersion(Long itemId, Long version);
+
+    // Quita del item los tags que no están en tagIds (si tagIds está vacío, los quita todos).
+    @Modifying
+    @Query("DELETE FROM items_tags WHERE item_id = :itemId AND tag_id <> ALL(:tagIds)")
+    Mono<Integer> deleteAllByItemIdAndTagIdNotIn(Long itemId, Long[] tagIds);
+
+    // Agrega al item los tags de tagIds que aún no tiene, apoyándose en la restricción única (item_id, tag_id).
+    @Modifying
+    @Query("""
+            INSERT INTO items_tags(item_id, tag_id)
+            SELECT :itemId, unnest(CAST(:tagIds AS BIGINT[]))
+            ON CONFLICT (item_id, tag_id) DO NOTHING
+            """)
+    Mono<Integer> insertAllMissing(Long itemId, Long[] tagIds);
 }
@@ -2,6 +2,10 @@ package dev.magadiflo.app.repository;
 
 import dev.magadiflo.app.model.entity.Person;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
 
 public interface PersonRepository extends R2dbcRepository<Person, Long> {
+    Flux<Person> findAllByLastModifiedDateGreaterThanEqual(LocalDateTime lastModifiedDate);
 }
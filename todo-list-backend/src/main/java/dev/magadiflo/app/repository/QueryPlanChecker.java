@@ -0,0 +1,156 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.model.dto.ArchivedItemSearchCriteria;
+import dev.magadiflo.app.model.dto.ItemSearchCriteria;
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.entity.ItemTag;
+import dev.magadiflo.app.model.enums.ItemStatus;
+import dev.magadiflo.app.model.enums.TagMatch;
+import dev.magadiflo.app.util.ItemCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.core.StatementMapper;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.r2dbc.core.binding.BindTarget;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Revisa al arrancar el plan de ejecución de las consultas más frecuentes de los repositorios y avisa cuando alguna
+ * recorre una tabla completa (Seq Scan). Se ejecuta con {@code enable_seqscan = off} para que, aun con tablas
+ * pequeñas, el planificador solo elija un Seq Scan cuando no exista un índice que lo evite.
+ * <p>
+ * Las sentencias revisadas son las mismas que ejecutan los repositorios: las constantes de sus {@code @Query}, los
+ * métodos que arman el SQL según los filtros y, para las consultas derivadas del nombre del método, el
+ * {@link StatementMapper} que usa Spring Data. Los parámetros se envían enlazados, como en la aplicación.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "app.query-plan-check", name = "enabled", havingValue = "true")
+public class QueryPlanChecker {
+
+    private static final Long[] IDS = {1L, 2L};
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final TransactionalOperator transactionalOperator;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkQueryPlans() {
+        Map<String, DatabaseClient.GenericExecuteSpec> explains = this.explains();
+        this.transactionalOperator.execute(status -> {
+                    // Solo se consultan planes: no hay nada que confirmar
+                    status.setRollbackOnly();
+                    return this.databaseClient.sql("SET LOCAL enable_seqscan = off").then()
+                            .thenMany(Flux.fromIterable(explains.entrySet()))
+                            .concatMap(explain -> this.explain(explain.getKey(), explain.getValue()));
+                })
+                .count()
+                .subscribe(
+                        withSeqScan -> log.info("Revisión de planes de ejecución terminada: {} de {} consultas con Seq Scan",
+                                withSeqScan, explains.size()),
+                        throwable -> log.warn("No se pudo revisar los planes de ejecución", throwable));
+    }
+
+    private Map<String, DatabaseClient.GenericExecuteSpec> explains() {
+        LocalDateTime now = LocalDateTime.now();
+        ItemCursor after = ItemCursor.of(Item.builder().id(1L).lastModifiedDate(now).build());
+        ReactiveDataAccessStrategy dataAccessStrategy = this.r2dbcEntityTemplate.getDataAccessStrategy();
+        StatementMapper itemTagMapper = dataAccessStrategy.getStatementMapper().forType(ItemTag.class);
+        Criteria byItemId = Criteria.where("itemId").is(1L);
+
+        Map<String, DatabaseClient.GenericExecuteSpec> explains = new LinkedHashMap<>();
+        explains.put("ItemTagRepository.findAllByItemId", this.explain(itemTagMapper.getMappedObject(itemTagMapper
+                .createSelect(dataAccessStrategy.getTableName(ItemTag.class))
+                .withProjection(dataAccessStrategy.getAllColumns(ItemTag.class).toArray(SqlIdentifier[]::new))
+                .withCriteria(byItemId))));
+        explains.put("ItemTagRepository.findAllByItemIds", this.explain(ItemTagRepository.FIND_ALL_BY_ITEM_IDS,
+                Map.of("itemIds", IDS)));
+        explains.put("ItemTagRepository.deleteAllByItemId", this.explain(itemTagMapper.getMappedObject(itemTagMapper
+                .createDelete(dataAccessStrategy.getTableName(ItemTag.class))
+                .withCriteria(byItemId))));
+        explains.put("TagRepository.findTagsByItemId", this.explain(TagRepository.FIND_TAGS_BY_ITEM_ID,
+                Map.of("itemId", 1L)));
+        explains.put("ItemSearchRepository.findItems", this.explain(ItemSearchRepository.findItemsStatement(
+                new ItemSearchCriteria(), null, 50)));
+        explains.put("ItemSearchRepository.findItems (after)", this.explain(ItemSearchRepository.findItemsStatement(
+                new ItemSearchCriteria(), after, 50)));
+        explains.put("ItemSearchRepository.findItems (status)", this.explain(ItemSearchRepository.findItemsStatement(
+                ItemSearchCriteria.builder().status(ItemStatus.DONE).build(), null, null)));
+        explains.put("ItemSearchRepository.findItems (assigneeId)", this.explain(ItemSearchRepository.findItemsStatement(
+                ItemSearchCriteria.builder().assigneeId(1L).build(), null, null)));
+        explains.put("ItemSearchRepository.findItems (tagId)", this.explain(ItemSearchRepository.findItemsStatement(
+                ItemSearchCriteria.builder().tagId(Set.of(IDS)).build(), null, null)));
+        explains.put("ItemSearchRepository.findItems (tagId, tagMatch=ALL)", this.explain(ItemSearchRepository.findItemsStatement(
+                ItemSearchCriteria.builder().tagId(Set.of(IDS)).tagMatch(TagMatch.ALL).build(), null, null)));
+        explains.put("ItemSearchRepository.findItems (q)", this.explain(ItemSearchRepository.findItemsStatement(
+                ItemSearchCriteria.builder().q("usuario").build(), null, null)));
+        explains.put("ItemSearchRepository.findItems (todos los filtros)", this.explain(ItemSearchRepository.findItemsStatement(
+                new ItemSearchCriteria(ItemStatus.TO_DO, 1L, Set.of(IDS), TagMatch.ANY, "usuario"), after, 50)));
+        explains.put("ItemArchiveRepository.archive", this.explain(ItemArchiveRepository.MOVE_ITEMS,
+                Map.of("cutoff", now, "limit", 1000, "now", now)));
+        explains.put("ItemArchiveRepository.findAll (after)", this.explain(ItemArchiveRepository.findAllStatement(
+                new ArchivedItemSearchCriteria(), after, 50)));
+        explains.put("ItemArchiveRepository.findAll (todos los filtros)", this.explain(ItemArchiveRepository.findAllStatement(
+                new ArchivedItemSearchCriteria(now.toLocalDate().minusMonths(1), now.toLocalDate(), 1L, 1L), after, 50)));
+        explains.put("ItemArchiveRepository.findById", this.explain(ItemArchiveRepository.FIND_BY_ID,
+                Map.of("itemId", 1L)));
+        return explains;
+    }
+
+    private DatabaseClient.GenericExecuteSpec explain(String sql, Map<String, Object> parameters) {
+        return this.databaseClient.sql("EXPLAIN " + sql).bindValues(parameters);
+    }
+
+    private DatabaseClient.GenericExecuteSpec explain(SqlStatement statement) {
+        return this.explain(statement.sql(), statement.parameters());
+    }
+
+    // El mismo SQL y los mismos valores enlazados que la consulta derivada, precedidos por EXPLAIN
+    private DatabaseClient.GenericExecuteSpec explain(PreparedOperation<?> operation) {
+        return this.databaseClient.sql(new PreparedOperation<>() {
+            @Override
+            public Object getSource() {
+                return operation.getSource();
+            }
+
+            @Override
+            public void bindTo(BindTarget target) {
+                operation.bindTo(target);
+            }
+
+            @Override
+            public String toQuery() {
+                return "EXPLAIN " + operation.toQuery();
+            }
+        });
+    }
+
+    // Emite el nombre de la consulta solo si su plan contiene un Seq Scan
+    private Mono<String> explain(String name, DatabaseClient.GenericExecuteSpec explain) {
+        return explain
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collect(Collectors.toList())
+                .filter(plan -> plan.stream().anyMatch(line -> line.contains("Seq Scan")))
+                .doOnNext(plan -> log.warn("La consulta {} recorre una tabla completa:\n{}", name, String.join("\n", plan)))
+                .map(plan -> name);
+    }
+}
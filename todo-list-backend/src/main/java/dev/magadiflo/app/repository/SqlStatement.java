@@ -0,0 +1,10 @@
+package dev.magadiflo.app.repository;
+
+import java.util.Map;
+
+/**
+ * Sentencia armada en tiempo de ejecución junto con los valores de sus parámetros con nombre. Los repositorios que
+ * construyen su SQL según los filtros la exponen para que {@link QueryPlanChecker} revise exactamente lo que ejecutan.
+ */
+record SqlStatement(String sql, Map<String, Object> parameters) {
+}
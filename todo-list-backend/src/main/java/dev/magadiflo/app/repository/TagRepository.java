@@ -5,13 +5,19 @@ import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 
+import java.time.LocalDateTime;
+
 public interface TagRepository extends R2dbcRepository<Tag, Long> {
-    @Query("""
+    String FIND_TAGS_BY_ITEM_ID = """
             SELECT t.id, t.name, t.version, t.created_date, t.last_modified_date
             FROM tags AS t
                 INNER JOIN items_tags AS it ON(t.id = it.tag_id)
             WHERE it.item_id = :itemId
             ORDER BY t.name
-            """)
+            """;
+
+    @Query(FIND_TAGS_BY_ITEM_ID)
     Flux<Tag> findTagsByItemId(Long itemId);
+
+    Flux<Tag> findAllByLastModifiedDateGreaterThanEqual(LocalDateTime lastModifiedDate);
 }
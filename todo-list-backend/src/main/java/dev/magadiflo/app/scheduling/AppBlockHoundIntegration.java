@@ -0,0 +1,50 @@
+package dev.magadiflo.app.scheduling;
+
+import dev.magadiflo.app.config.BlockingCallDetectionProperties;
+import io.micrometer.core.instrument.Metrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+/**
+ * Configuración de BlockHound propia de la aplicación: qué hacer con cada llamada bloqueante detectada y las llamadas
+ * que se admiten ({@code app.blocking-detection.allowed}). Los hilos no bloqueantes los definen las integraciones
+ * de Reactor y Netty, que BlockHound carga junto con esta.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class AppBlockHoundIntegration implements BlockHoundIntegration {
+
+    private final BlockingCallDetectionProperties properties;
+
+    @Override
+    public void applyTo(BlockHound.Builder builder) {
+        builder.blockingMethodCallback(this::report);
+        // Lecturas de archivos que ocurren una sola vez y quedan en caché:
+        // la primera conexión a PostgreSQL extrae la librería nativa de epoll del jar de Netty,
+        builder.allowBlockingCallsInside("io.netty.util.internal.NativeLibraryLoader", "load");
+        // Spring Data lee el .class de cada tipo de resultado de las consultas para conocer el orden de sus propiedades
+        builder.allowBlockingCallsInside("org.springframework.data.projection.DefaultProjectionInformation$PropertyDescriptorSource", "getMetadata");
+        // y Hibernate Validator carga ValidationMessages al interpolar el primer mensaje de error
+        builder.allowBlockingCallsInside("org.hibernate.validator.resourceloading.PlatformResourceBundleLocator", "loadBundle");
+        for (String allowed : this.properties.getAllowed()) {
+            String[] classAndMethod = allowed.split("#");
+            if (classAndMethod.length != 2) {
+                throw new IllegalArgumentException("app.blocking-detection.allowed: se espera clase#método y se recibió [%s]".formatted(allowed));
+            }
+            builder.allowBlockingCallsInside(classAndMethod[0], classAndMethod[1]);
+        }
+    }
+
+    private void report(BlockingMethod method) {
+        BlockingOperationError error = new BlockingOperationError(method);
+        Metrics.counter("blocking.calls", "method", method.getClassName() + "." + method.getName()).increment();
+        log.error("Llamada bloqueante en el hilo no bloqueante {}", Thread.currentThread().getName(), error);
+        if (this.properties.getMode() == BlockingCallDetectionProperties.Mode.FAIL) {
+            throw error;
+        }
+    }
+}
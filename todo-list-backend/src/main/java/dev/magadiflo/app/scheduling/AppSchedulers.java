@@ -0,0 +1,75 @@
+package dev.magadiflo.app.scheduling;
+
+import dev.magadiflo.app.config.SchedulerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Schedulers propios para el trabajo que no debe correr en los hilos de Netty ni en los de r2dbc, que son pocos y
+ * atienden a todas las conexiones: una llamada bloqueante o un cálculo largo en uno de ellos demora a cada petición
+ * que comparte ese hilo. Ambos son acotados, así que un pico de ese trabajo espera su turno en lugar de crear hilos
+ * sin límite.
+ */
+@Slf4j
+@Component
+public class AppSchedulers implements DisposableBean {
+
+    private final Scheduler blocking;
+    private final Scheduler cpu;
+
+    public AppSchedulers(SchedulerProperties properties) {
+        this.blocking = newBlockingScheduler(properties.getBlocking());
+        // Los hilos de un scheduler parallel se marcan como no bloqueantes, así BlockHound también los vigila
+        this.cpu = Schedulers.newParallel("app-cpu", properties.getCpu().getParallelism(), true);
+    }
+
+    /**
+     * Para llamadas bloqueantes que no se pueden evitar.
+     */
+    public Scheduler blocking() {
+        return this.blocking;
+    }
+
+    /**
+     * Para trabajo de CPU prolongado. No admite llamadas bloqueantes.
+     */
+    public Scheduler cpu() {
+        return this.cpu;
+    }
+
+    /**
+     * Ejecuta una llamada bloqueante en {@link #blocking()} y publica su resultado.
+     */
+    public <T> Mono<T> fromBlocking(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(this.blocking);
+    }
+
+    @Override
+    public void destroy() {
+        this.blocking.dispose();
+        this.cpu.dispose();
+    }
+
+    private static Scheduler newBlockingScheduler(SchedulerProperties.Blocking properties) {
+        int keepAliveSeconds = (int) properties.getKeepAlive().toSeconds();
+        if (properties.getThreads() == SchedulerProperties.ThreadType.VIRTUAL) {
+            try {
+                ThreadFactory virtualThreads = new VirtualThreadTaskExecutor("app-blocking-").getVirtualThreadFactory();
+                return Schedulers.newBoundedElastic(properties.getMaxThreads(), properties.getMaxQueuedTasks(),
+                        virtualThreads, keepAliveSeconds);
+            } catch (UnsupportedOperationException exception) {
+                log.warn("Los hilos virtuales requieren Java 21; app.schedulers.blocking usa hilos del sistema");
+            }
+        }
+        return Schedulers.newBoundedElastic(properties.getMaxThreads(), properties.getMaxQueuedTasks(),
+                "app-blocking", keepAliveSeconds, true);
+    }
+}
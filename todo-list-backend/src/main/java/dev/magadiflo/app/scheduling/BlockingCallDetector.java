@@ -0,0 +1,37 @@
+package dev.magadiflo.app.scheduling;
+
+import dev.magadiflo.app.config.BlockingCallDetectionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Con {@code app.blocking-detection.enabled} instala BlockHound, que detecta las llamadas bloqueantes (sleep, wait,
+ * E/S de archivos o sockets, esperas de locks) hechas desde un hilo no bloqueante: los de Netty, los de r2dbc y los
+ * schedulers {@code parallel} de Reactor, incluido {@link AppSchedulers#cpu()}. Cada llamada se registra con su stack
+ * trace y se cuenta en {@code blocking.calls}; en modo FAIL además lanza {@link BlockingOperationError}.
+ * <p>
+ * Se instala al preparar el Environment, antes de que se cree cualquier hilo de la aplicación, y una sola vez por
+ * JVM. Se registra en META-INF/spring.factories para que también se active en los tests que levantan el contexto.
+ */
+@Slf4j
+public class BlockingCallDetector implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        BlockingCallDetectionProperties properties = Binder.get(event.getEnvironment())
+                .bind("app.blocking-detection", BlockingCallDetectionProperties.class)
+                .orElseGet(BlockingCallDetectionProperties::new);
+        if (!properties.isEnabled() || !INSTALLED.compareAndSet(false, true)) return;
+
+        BlockHound.install(new AppBlockHoundIntegration(properties));
+        log.info("Detección de llamadas bloqueantes activa (modo {})", properties.getMode());
+    }
+}
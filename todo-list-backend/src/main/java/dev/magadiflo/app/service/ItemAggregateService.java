@@ -0,0 +1,10 @@
+package dev.magadiflo.app.service;
+
+import dev.magadiflo.app.model.dto.ItemAggregatesResource;
+import reactor.core.publisher.Mono;
+
+public interface ItemAggregateService {
+    Mono<ItemAggregatesResource> findItemAggregates();
+
+    Mono<Long> reconcileCounters();
+}
@@ -0,0 +1,15 @@
+package dev.magadiflo.app.service;
+
+import dev.magadiflo.app.model.dto.ArchivedItemSearchCriteria;
+import dev.magadiflo.app.model.dto.ItemPageResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.util.ItemCursor;
+import reactor.core.publisher.Mono;
+
+public interface ItemArchiveService {
+    Mono<Long> archiveItems();
+
+    Mono<ItemPageResource> findArchivedItemPage(ArchivedItemSearchCriteria criteria, ItemCursor after, int limit);
+
+    Mono<ItemResource> findArchivedItemById(Long itemId);
+}
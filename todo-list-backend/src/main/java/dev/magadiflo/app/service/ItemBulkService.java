@@ -0,0 +1,15 @@
+package dev.magadiflo.app.service;
+
+import dev.magadiflo.app.model.dto.ItemBulkResultResource;
+import dev.magadiflo.app.model.dto.ItemBulkUpdateResource;
+import dev.magadiflo.app.model.dto.ItemVersionResource;
+import dev.magadiflo.app.model.dto.NewItemResource;
+import reactor.core.publisher.Flux;
+
+public interface ItemBulkService {
+    Flux<ItemBulkResultResource> createItems(Flux<NewItemResource> newItemResources);
+
+    Flux<ItemBulkResultResource> updateItems(Flux<ItemBulkUpdateResource> itemBulkUpdateResources);
+
+    Flux<ItemBulkResultResource> deleteItems(Flux<ItemVersionResource> itemVersionResources);
+}
@@ -0,0 +1,8 @@
+package dev.magadiflo.app.service;
+
+import dev.magadiflo.app.model.dto.ItemEventResource;
+import reactor.core.publisher.Flux;
+
+public interface ItemFeedService {
+    Flux<ItemEventResource> streamItemEvents();
+}
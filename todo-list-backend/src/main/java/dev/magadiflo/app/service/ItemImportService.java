@@ -0,0 +1,10 @@
+package dev.magadiflo.app.service;
+
+import dev.magadiflo.app.model.dto.ItemImportEventResource;
+import dev.magadiflo.app.model.enums.ItemImportFormat;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+public interface ItemImportService {
+    Flux<ItemImportEventResource> importItems(Flux<DataBuffer> content, ItemImportFormat format);
+}
@@ -1,19 +1,39 @@
 package dev.magadiflo.app.service;
 
+import dev.magadiflo.app.model.dto.ItemCollectionRevisionResource;
+import dev.magadiflo.app.model.dto.ItemPageResource;
+import dev.magadiflo.app.model.dto.ItemPatchResource;
 import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.dto.ItemRevisionResource;
+import dev.magadiflo.app.model.dto.ItemSearchCriteria;
 import dev.magadiflo.app.model.dto.ItemUpdateResource;
 import dev.magadiflo.app.model.dto.NewItemResource;
+import dev.magadiflo.app.util.ItemCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface ItemService {
     Flux<ItemResource> findAllItems();
 
+    Flux<ItemResource> findItems(ItemSearchCriteria criteria, ItemCursor after, Integer limit);
+
+    Mono<ItemPageResource> findItemPage(ItemSearchCriteria criteria, ItemCursor after, int limit);
+
     Mono<ItemResource> findItemById(Long itemId, boolean loadRelations);
 
+    Flux<ItemResource> findItemsByIds(Collection<Long> itemIds);
+
+    Mono<ItemRevisionResource> findItemRevision(Long itemId);
+
+    Mono<ItemCollectionRevisionResource> findItemCollectionRevision();
+
     Mono<ItemResource> createItem(NewItemResource newItemResource);
 
     Mono<ItemResource> updateItem(Long itemId, ItemUpdateResource itemUpdateResource, Long version);
 
+    Mono<ItemResource> patchItem(Long itemId, ItemPatchResource itemPatchResource, Long version);
+
     Mono<Void> deleteItemById(Long itemId, Long version);
 }
@@ -0,0 +1,129 @@
+package dev.magadiflo.app.service.impl;
+
+import dev.magadiflo.app.cache.PersonCache;
+import dev.magadiflo.app.cache.TagCache;
+import dev.magadiflo.app.mapper.PersonMapper;
+import dev.magadiflo.app.mapper.TagMapper;
+import dev.magadiflo.app.model.dto.ItemAggregatesResource;
+import dev.magadiflo.app.model.dto.ItemAssigneeCountResource;
+import dev.magadiflo.app.model.dto.ItemTagCountResource;
+import dev.magadiflo.app.model.dto.PersonResource;
+import dev.magadiflo.app.model.dto.TagResource;
+import dev.magadiflo.app.model.entity.ItemCounter;
+import dev.magadiflo.app.model.entity.Person;
+import dev.magadiflo.app.model.entity.Tag;
+import dev.magadiflo.app.model.enums.ItemCounterDimension;
+import dev.magadiflo.app.model.enums.ItemStatus;
+import dev.magadiflo.app.repository.ItemCounterRepository;
+import dev.magadiflo.app.service.ItemAggregateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Los totales se leen de item_counters, de modo que el costo depende de la cantidad de estados, personas y tags, y
+ * no de la cantidad de items. Las personas y los tags se resuelven con sus cachés.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ItemAggregateServiceImpl implements ItemAggregateService {
+
+    private final ItemCounterRepository itemCounterRepository;
+    private final PersonCache personCache;
+    private final TagCache tagCache;
+    private final PersonMapper personMapper;
+    private final TagMapper tagMapper;
+
+    @Override
+    public Mono<ItemAggregatesResource> findItemAggregates() {
+        return this.itemCounterRepository.findAll()
+                .collectList()
+                .flatMap(counters -> {
+                    List<ItemCounter> assigneeCounters = this.filter(counters, ItemCounterDimension.ASSIGNEE);
+                    List<ItemCounter> tagCounters = this.filter(counters, ItemCounterDimension.TAG);
+                    List<Long> personIds = assigneeCounters.stream()
+                            .filter(counter -> !ItemCounter.UNASSIGNED_KEY.equals(counter.getDimensionKey()))
+                            .map(counter -> Long.valueOf(counter.getDimensionKey()))
+                            .toList();
+                    List<Long> tagIds = tagCounters.stream()
+                            .map(counter -> Long.valueOf(counter.getDimensionKey()))
+                            .toList();
+
+                    return Mono.zip(this.personCache.findAllById(personIds), this.tagCache.findAllById(tagIds))
+                            .map(tuple -> ItemAggregatesResource.builder()
+                                    .byStatus(this.byStatus(counters))
+                                    .byAssignee(assigneeCounters.stream()
+                                            .map(counter -> ItemAssigneeCountResource.builder()
+                                                    .assignee(this.toAssignee(counter, tuple.getT1()))
+                                                    .count(counter.getItemCount())
+                                                    .build())
+                                            .toList())
+                                    .byTag(tagCounters.stream()
+                                            .map(counter -> ItemTagCountResource.builder()
+                                                    .tag(this.toTag(counter, tuple.getT2()))
+                                                    .count(counter.getItemCount())
+                                                    .build())
+                                            .toList())
+                                    .build());
+                });
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.items.aggregates.reconciliation-interval:PT10M}")
+    public Mono<Long> reconcileCounters() {
+        return this.itemCounterRepository.reconcile()
+                .doOnNext(corrected -> {
+                    if (corrected > 0) {
+                        log.warn("Se corrigieron {} contadores de items que no coincidían con los datos", corrected);
+                    }
+                })
+                .onErrorResume(throwable -> {
+                    log.warn("No se pudo conciliar los contadores de items: {}", throwable.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private List<ItemCounter> filter(List<ItemCounter> counters, ItemCounterDimension dimension) {
+        return counters.stream()
+                .filter(counter -> counter.getDimension() == dimension)
+                .toList();
+    }
+
+    private Map<ItemStatus, Long> byStatus(List<ItemCounter> counters) {
+        Map<ItemStatus, Long> byStatus = new EnumMap<>(ItemStatus.class);
+        for (ItemStatus status : ItemStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        this.filter(counters, ItemCounterDimension.STATUS)
+                .forEach(counter -> byStatus.put(ItemStatus.valueOf(counter.getDimensionKey()), counter.getItemCount()));
+        return byStatus;
+    }
+
+    private PersonResource toAssignee(ItemCounter counter, Map<Long, Person> persons) {
+        if (ItemCounter.UNASSIGNED_KEY.equals(counter.getDimensionKey())) {
+            return null;
+        }
+
+        Long personId = Long.valueOf(counter.getDimensionKey());
+        return persons.containsKey(personId) ?
+                this.personMapper.toPersonResource(persons.get(personId)) :
+                PersonResource.builder().id(personId).build();
+    }
+
+    private TagResource toTag(ItemCounter counter, Map<Long, Tag> tags) {
+        Long tagId = Long.valueOf(counter.getDimensionKey());
+        return tags.containsKey(tagId) ?
+                this.tagMapper.toTagResource(tags.get(tagId)) :
+                TagResource.builder().id(tagId).build();
+    }
+}
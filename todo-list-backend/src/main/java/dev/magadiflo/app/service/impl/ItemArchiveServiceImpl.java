@@ -0,0 +1,89 @@
+package dev.magadiflo.app.service.impl;
+
+import dev.magadiflo.app.config.ItemArchiveProperties;
+import dev.magadiflo.app.exception.ArchivedItemNotFoundException;
+import dev.magadiflo.app.model.dto.ArchivedItemSearchCriteria;
+import dev.magadiflo.app.model.dto.ItemPageResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.repository.ItemArchiveRepository;
+import dev.magadiflo.app.service.ItemArchiveService;
+import dev.magadiflo.app.util.ItemCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Separa los items activos del histórico: los items DONE sin cambios durante {@code min-age} salen de items (y de
+ * items_tags) hacia items_archive, así las consultas de los endpoints de items recorren solo los activos sin importar
+ * cuánto histórico se acumule. El histórico se consulta aparte y solo cuando se pide.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ItemArchiveServiceImpl implements ItemArchiveService {
+
+    private final ItemArchiveRepository itemArchiveRepository;
+    private final ItemArchiveProperties itemArchiveProperties;
+
+    /**
+     * Archiva en transacciones de {@code chunk-size} items hasta que no queden items por archivar o se alcance
+     * {@code max-chunks-per-run}. Cada transacción es independiente: si una falla, lo ya archivado queda archivado y
+     * el resto se intenta en la siguiente ejecución. Devuelve la cantidad de items archivados.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${app.items.archive.interval:PT1H}", initialDelayString = "${app.items.archive.interval:PT1H}")
+    public Mono<Long> archiveItems() {
+        if (!this.itemArchiveProperties.isEnabled()) {
+            return Mono.just(0L);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(this.itemArchiveProperties.getMinAge());
+        int chunkSize = this.itemArchiveProperties.getChunkSize();
+        return this.itemArchiveRepository.createPartitions(cutoff)
+                .doOnNext(created -> {
+                    if (created > 0) {
+                        log.info("Se crearon {} particiones de items_archive", created);
+                    }
+                })
+                .thenMany(Mono.defer(() -> this.itemArchiveRepository.archive(cutoff, chunkSize, now)
+                                // Otra instancia está archivando: esta ejecución termina aquí
+                                .defaultIfEmpty(0L))
+                        .repeat(this.itemArchiveProperties.getMaxChunksPerRun() - 1L)
+                        .takeUntil(archived -> archived < chunkSize))
+                .reduce(0L, Long::sum)
+                .doOnNext(archived -> {
+                    if (archived > 0) {
+                        log.info("Se archivaron {} items DONE modificados antes de {}", archived, cutoff);
+                    }
+                })
+                .onErrorResume(throwable -> {
+                    log.warn("No se pudo completar el archivado de items: {}", throwable.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<ItemPageResource> findArchivedItemPage(ArchivedItemSearchCriteria criteria, ItemCursor after, int limit) {
+        return this.itemArchiveRepository.findAll(criteria, after, limit)
+                .collectList()
+                .map(items -> ItemPageResource.builder()
+                        .content(items)
+                        .nextCursor(items.size() < limit ? null : ItemCursor.of(items.get(items.size() - 1)).encode())
+                        .build());
+    }
+
+    @Override
+    public Mono<ItemResource> findArchivedItemById(Long itemId) {
+        return this.itemArchiveRepository.findById(itemId)
+                .switchIfEmpty(Mono.error(new ArchivedItemNotFoundException(itemId)));
+    }
+}
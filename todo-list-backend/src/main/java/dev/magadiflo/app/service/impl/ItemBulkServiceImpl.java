@@ -0,0 +1,254 @@
+package dev.magadiflo.app.service.impl;
+
+import dev.magadiflo.app.config.ItemBulkProperties;
+import dev.magadiflo.app.exception.ItemNotFoundException;
+import dev.magadiflo.app.exception.UnexpectedItemVersionException;
+import dev.magadiflo.app.listener.ItemChangeNotification;
+import dev.magadiflo.app.mapper.ItemMapper;
+import dev.magadiflo.app.mapper.TagMapper;
+import dev.magadiflo.app.metrics.AppMetrics;
+import dev.magadiflo.app.model.dto.ItemBulkResultResource;
+import dev.magadiflo.app.model.dto.ItemBulkUpdateResource;
+import dev.magadiflo.app.model.dto.ItemVersionResource;
+import dev.magadiflo.app.model.dto.NewItemResource;
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.entity.ItemTag;
+import dev.magadiflo.app.model.enums.ItemBulkResultStatus;
+import dev.magadiflo.app.repository.ItemBulkRepository;
+import dev.magadiflo.app.repository.ItemNotificationRepository;
+import dev.magadiflo.app.service.ItemBulkService;
+import io.r2dbc.spi.R2dbcException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Altas, modificaciones y bajas masivas de items. Los elementos se procesan en lotes de
+ * {@code app.items.bulk.chunk-size}; cada lote se escribe en su propia transacción con una sentencia por tabla, y
+ * se informa el resultado de cada elemento (incluidos los conflictos de versión) en el orden de la petición. Si la
+ * base rechaza un lote, sus elementos se informan como {@code FAILED} y se continúa con el lote siguiente.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ItemBulkServiceImpl implements ItemBulkService {
+
+    private static final Comparator<ItemBulkResultResource> BY_INDEX = Comparator.comparing(ItemBulkResultResource::getIndex);
+    private static final Map<ItemBulkResultStatus, ItemChangeNotification.Operation> NOTIFIED_OPERATIONS = Map.of(
+            ItemBulkResultStatus.CREATED, ItemChangeNotification.Operation.INSERT,
+            ItemBulkResultStatus.UPDATED, ItemChangeNotification.Operation.UPDATE,
+            ItemBulkResultStatus.DELETED, ItemChangeNotification.Operation.DELETE);
+
+    private final ItemBulkRepository itemBulkRepository;
+    private final ItemNotificationRepository itemNotificationRepository;
+    private final ItemMapper itemMapper;
+    private final TagMapper tagMapper;
+    private final Validator validator;
+    private final TransactionalOperator transactionalOperator;
+    private final ItemBulkProperties itemBulkProperties;
+    private final AppMetrics appMetrics;
+
+    @Override
+    public Flux<ItemBulkResultResource> createItems(Flux<NewItemResource> newItemResources) {
+        return this.processInChunks(newItemResources, null, this::createChunk);
+    }
+
+    @Override
+    public Flux<ItemBulkResultResource> updateItems(Flux<ItemBulkUpdateResource> itemBulkUpdateResources) {
+        return this.processInChunks(itemBulkUpdateResources, ItemBulkUpdateResource::getId, this::updateChunk);
+    }
+
+    @Override
+    public Flux<ItemBulkResultResource> deleteItems(Flux<ItemVersionResource> itemVersionResources) {
+        return this.processInChunks(itemVersionResources, ItemVersionResource::getId, this::deleteChunk);
+    }
+
+    /**
+     * Valida y escribe los elementos por lotes. {@code idOf} es null cuando los elementos todavía no tienen id (altas);
+     * en otro caso un id repetido dentro del mismo lote invalida todas sus apariciones, porque no se sabría cuál aplicar.
+     * Los resultados de un lote se emiten recién cuando su transacción terminó. Cada lote envía una notificación por
+     * operación con los ids que escribió, en lugar de las que enviarían los triggers por cada sentencia.
+     */
+    private <T> Flux<ItemBulkResultResource> processInChunks(Flux<T> resources, Function<T, Long> idOf,
+                                                             Function<List<Tuple2<Long, T>>, Flux<ItemBulkResultResource>> chunkWriter) {
+        return resources.index()
+                .buffer(this.itemBulkProperties.getChunkSize())
+                .concatMap(chunk -> {
+                    List<ItemBulkResultResource> invalid = new ArrayList<>();
+                    List<Tuple2<Long, T>> valid = new ArrayList<>();
+                    chunk.forEach(indexed -> {
+                        Set<ConstraintViolation<T>> violations = this.validator.validate(indexed.getT2());
+                        if (violations.isEmpty()) {
+                            valid.add(indexed);
+                        } else {
+                            invalid.add(this.result(indexed.getT1(), ItemBulkResultStatus.INVALID, null, null, violations.stream()
+                                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                                    .collect(Collectors.joining(", "))));
+                        }
+                    });
+                    if (idOf != null) {
+                        Map<Long, Long> occurrences = valid.stream()
+                                .collect(Collectors.groupingBy(indexed -> idOf.apply(indexed.getT2()), Collectors.counting()));
+                        valid.removeIf(indexed -> {
+                            Long itemId = idOf.apply(indexed.getT2());
+                            if (occurrences.get(itemId) == 1) return false;
+                            invalid.add(this.result(indexed.getT1(), ItemBulkResultStatus.INVALID, itemId, null,
+                                    "id: está repetido en el mismo lote"));
+                            return true;
+                        });
+                    }
+
+                    Mono<List<ItemBulkResultResource>> written = valid.isEmpty() ?
+                            Mono.just(List.of()) :
+                            this.itemNotificationRepository.suppressTriggerNotifications()
+                                    .thenMany(chunkWriter.apply(valid))
+                                    .collectList()
+                                    .flatMap(results -> this.notifyChanges(results).thenReturn(results))
+                                    .as(this.transactionalOperator::transactional);
+                    return written
+                            .onErrorResume(exception -> exception instanceof DataAccessException || exception instanceof R2dbcException, exception -> {
+                                String cause = NestedExceptionUtils.getMostSpecificCause(exception).getMessage();
+                                log.warn("No se pudo escribir el lote de los elementos {} a {}: {}", valid.get(0).getT1(),
+                                        valid.get(valid.size() - 1).getT1(), cause);
+                                return Mono.just(valid.stream()
+                                        .map(indexed -> this.result(indexed.getT1(), ItemBulkResultStatus.FAILED,
+                                                idOf == null ? null : idOf.apply(indexed.getT2()), null,
+                                                "El lote no se pudo escribir: " + cause))
+                                        .toList());
+                            })
+                            .flatMapMany(results -> Flux.fromIterable(invalid)
+                                    .concatWith(Flux.fromIterable(results))
+                                    .sort(BY_INDEX));
+                });
+    }
+
+    private Mono<Void> notifyChanges(List<ItemBulkResultResource> results) {
+        Map<ItemBulkResultStatus, List<Long>> writtenIds = results.stream()
+                .filter(result -> NOTIFIED_OPERATIONS.containsKey(result.getStatus()))
+                .collect(Collectors.groupingBy(ItemBulkResultResource::getStatus,
+                        Collectors.mapping(ItemBulkResultResource::getItemId, Collectors.toList())));
+        return Flux.fromIterable(writtenIds.entrySet())
+                .concatMap(entry -> this.itemNotificationRepository.notify(NOTIFIED_OPERATIONS.get(entry.getKey()), entry.getValue()))
+                .then();
+    }
+
+    private Flux<ItemBulkResultResource> createChunk(List<Tuple2<Long, NewItemResource>> chunk) {
+        // Los ids se reservan antes del INSERT para relacionar cada fila insertada con su elemento sin depender del
+        // orden en el que la base devuelve las filas.
+        return this.itemBulkRepository.nextItemIds(chunk.size())
+                .collectList()
+                .flatMapMany(itemIds -> {
+                    List<Item> items = new ArrayList<>(chunk.size());
+                    List<ItemTag> itemTags = new ArrayList<>();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        Item item = this.itemMapper.toItem(chunk.get(i).getT2());
+                        item.setId(itemIds.get(i));
+                        items.add(item);
+                        itemTags.addAll(this.tagMapper.toItemTags(item.getId(), chunk.get(i).getT2().getTagIds()));
+                    }
+
+                    return this.itemBulkRepository.insertAll(items, LocalDateTime.now())
+                            .collectMap(Item::getId, Item::getVersion)
+                            .flatMapMany(insertedVersions -> this.itemBulkRepository.insertItemTags(itemTags)
+                                    .thenMany(Flux.range(0, chunk.size())
+                                            .map(i -> this.result(chunk.get(i).getT1(), ItemBulkResultStatus.CREATED,
+                                                    itemIds.get(i), insertedVersions.get(itemIds.get(i)), null))));
+                });
+    }
+
+    private Flux<ItemBulkResultResource> updateChunk(List<Tuple2<Long, ItemBulkUpdateResource>> chunk) {
+        List<Item> items = chunk.stream()
+                .map(Tuple2::getT2)
+                .map(resource -> Item.builder()
+                        .id(resource.getId())
+                        .version(resource.getVersion())
+                        .description(resource.getDescription())
+                        .status(resource.getStatus())
+                        .assigneeId(resource.getAssigneeId())
+                        .build())
+                .toList();
+
+        return this.itemBulkRepository.updateAll(items, LocalDateTime.now())
+                .collectMap(Item::getId, Item::getVersion)
+                .flatMapMany(updatedVersions -> {
+                    List<ItemTag> itemTags = chunk.stream()
+                            .map(Tuple2::getT2)
+                            .filter(resource -> updatedVersions.containsKey(resource.getId()))
+                            .flatMap(resource -> this.tagMapper.toItemTags(resource.getId(), resource.getTagIds()).stream())
+                            .toList();
+                    Set<Long> notUpdatedIds = chunk.stream()
+                            .map(indexed -> indexed.getT2().getId())
+                            .filter(itemId -> !updatedVersions.containsKey(itemId))
+                            .collect(Collectors.toSet());
+
+                    return this.itemBulkRepository.deleteItemTags(updatedVersions.keySet())
+                            .then(this.itemBulkRepository.insertItemTags(itemTags))
+                            .then(this.itemBulkRepository.findVersionsByIds(notUpdatedIds))
+                            .flatMapIterable(currentVersions -> chunk.stream()
+                                    .map(indexed -> updatedVersions.containsKey(indexed.getT2().getId()) ?
+                                            this.result(indexed.getT1(), ItemBulkResultStatus.UPDATED, indexed.getT2().getId(),
+                                                    updatedVersions.get(indexed.getT2().getId()), null) :
+                                            this.failure("updateItems", indexed.getT1(), indexed.getT2().getId(), indexed.getT2().getVersion(), currentVersions))
+                                    .toList());
+                });
+    }
+
+    private Flux<ItemBulkResultResource> deleteChunk(List<Tuple2<Long, ItemVersionResource>> chunk) {
+        List<Item> items = chunk.stream()
+                .map(indexed -> Item.builder()
+                        .id(indexed.getT2().getId())
+                        .version(indexed.getT2().getVersion())
+                        .build())
+                .toList();
+
+        return this.itemBulkRepository.deleteAll(items)
+                .collect(Collectors.toSet())
+                .flatMapMany(deletedIds -> {
+                    Set<Long> notDeletedIds = items.stream()
+                            .map(Item::getId)
+                            .filter(itemId -> !deletedIds.contains(itemId))
+                            .collect(Collectors.toSet());
+
+                    return this.itemBulkRepository.findVersionsByIds(notDeletedIds)
+                            .flatMapIterable(currentVersions -> chunk.stream()
+                                    .map(indexed -> deletedIds.contains(indexed.getT2().getId()) ?
+                                            this.result(indexed.getT1(), ItemBulkResultStatus.DELETED, indexed.getT2().getId(), null, null) :
+                                            this.failure("deleteItems", indexed.getT1(), indexed.getT2().getId(), indexed.getT2().getVersion(), currentVersions))
+                                    .toList());
+                });
+    }
+
+    private ItemBulkResultResource failure(String operation, Long index, Long itemId, Long expectedVersion, Map<Long, Long> currentVersions) {
+        Long currentVersion = currentVersions.get(itemId);
+        if (currentVersion != null) {
+            this.appMetrics.versionConflict(operation);
+        }
+        return currentVersion == null ?
+                this.result(index, ItemBulkResultStatus.NOT_FOUND, itemId, null, new ItemNotFoundException(itemId).getMessage()) :
+                this.result(index, ItemBulkResultStatus.VERSION_CONFLICT, itemId, currentVersion,
+                        new UnexpectedItemVersionException(expectedVersion, currentVersion).getMessage());
+    }
+
+    private ItemBulkResultResource result(Long index, ItemBulkResultStatus status, Long itemId, Long version, String message) {
+        return ItemBulkResultResource.builder()
+                .index(index)
+                .status(status)
+                .itemId(itemId)
+                .version(version)
+                .message(message)
+                .build();
+    }
+}
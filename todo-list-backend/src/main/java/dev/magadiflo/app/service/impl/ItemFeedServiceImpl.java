@@ -0,0 +1,101 @@
+package dev.magadiflo.app.service.impl;
+
+import dev.magadiflo.app.config.ItemFeedProperties;
+import dev.magadiflo.app.listener.ItemChangeListener;
+import dev.magadiflo.app.listener.ItemChangeNotification;
+import dev.magadiflo.app.model.dto.ItemEventResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.enums.ItemEventType;
+import dev.magadiflo.app.replica.ReadReplicaConnectionFactory;
+import dev.magadiflo.app.service.ItemFeedService;
+import dev.magadiflo.app.service.ItemService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Flujo de cambios de items en vivo. Las notificaciones de la base de datos se resuelven una sola vez en un
+ * {@link Flux} caliente compartido por todos los suscriptores, que emite los eventos de cada notificación juntos;
+ * cada suscriptor tiene su propio buffer acotado (en notificaciones, porque una sola puede traer cientos de eventos a
+ * la vez) y se desconecta si lo desborda, de modo que un cliente lento no frena a los demás.
+ * <p>
+ * Tanto el snapshot como los items de cada notificación se leen de la base de datos principal: una réplica atrasada
+ * devolvería un item anterior a la notificación (o ninguno, si el item es nuevo) y un snapshot sin cambios que ya se
+ * notificaron antes de la suscripción.
+ */
+@Slf4j
+@Service
+public class ItemFeedServiceImpl implements ItemFeedService {
+
+    private final ItemService itemService;
+    private final ItemFeedProperties itemFeedProperties;
+    private final Flux<List<ItemEventResource>> changes;
+
+    public ItemFeedServiceImpl(ItemService itemService, ItemFeedProperties itemFeedProperties,
+                               ItemChangeListener itemChangeListener) {
+        this.itemService = itemService;
+        this.itemFeedProperties = itemFeedProperties;
+        this.changes = itemChangeListener.notifications()
+                .concatMap(notification -> this.toItemEvents(notification).collectList())
+                .filter(events -> !events.isEmpty())
+                .share();
+    }
+
+    @Override
+    public Flux<ItemEventResource> streamItemEvents() {
+        Flux<List<ItemEventResource>> liveChanges = this.changes
+                .onBackpressureBuffer(this.itemFeedProperties.getSubscriberBufferSize(),
+                        dropped -> log.warn("Suscriptor del feed de items desconectado por no consumir los eventos a tiempo"));
+
+        // publish() se suscribe a los cambios antes de leer el snapshot, así los cambios ocurridos mientras se
+        // envía el snapshot quedan retenidos y se emiten a continuación. Tanto publish() como concatMapIterable()
+        // piden las notificaciones de a una para que las pendientes queden en el buffer acotado del suscriptor.
+        return liveChanges.publish(sharedChanges -> this.itemService.findAllItems()
+                .contextWrite(ReadReplicaConnectionFactory::primary)
+                .map(itemResource -> this.toItemEvent(ItemEventType.SNAPSHOT, itemResource))
+                .concatWith(sharedChanges.concatMapIterable(Function.identity(), 1)), 1);
+    }
+
+    /**
+     * Una notificación trae todos los ids que cambió una sentencia (o un lote del bulk o de la importación): los items
+     * se leen con una consulta por notificación y no uno por uno.
+     */
+    private Flux<ItemEventResource> toItemEvents(ItemChangeNotification notification) {
+        if (notification.getOperation() == ItemChangeNotification.Operation.DELETE) {
+            return Flux.fromIterable(notification.getItemIds())
+                    .map(itemId -> ItemEventResource.builder()
+                            .type(ItemEventType.DELETED)
+                            .itemId(itemId)
+                            .build());
+        }
+
+        if (notification.getOperation() == ItemChangeNotification.Operation.ARCHIVE) {
+            return Flux.just(ItemEventResource.builder()
+                    .type(ItemEventType.ARCHIVED)
+                    .archivedUntil(notification.getArchivedUntil())
+                    .build());
+        }
+
+        ItemEventType type = notification.getOperation() == ItemChangeNotification.Operation.INSERT ?
+                ItemEventType.CREATED : ItemEventType.UPDATED;
+        // Los items eliminados antes de resolver la notificación se omiten; su evento DELETED llegará después
+        return this.itemService.findItemsByIds(notification.getItemIds())
+                .contextWrite(ReadReplicaConnectionFactory::primary)
+                .map(itemResource -> this.toItemEvent(type, itemResource))
+                .onErrorResume(throwable -> {
+                    log.debug("No se pudo resolver el cambio {}: {}", notification, throwable.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    private ItemEventResource toItemEvent(ItemEventType type, ItemResource itemResource) {
+        return ItemEventResource.builder()
+                .type(type)
+                .itemId(itemResource.getId())
+                .item(itemResource)
+                .build();
+    }
+}
@@ -0,0 +1,365 @@
+package dev.magadiflo.app.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.magadiflo.app.cache.PersonCache;
+import dev.magadiflo.app.cache.TagCache;
+import dev.magadiflo.app.config.ItemImportProperties;
+import dev.magadiflo.app.exception.InvalidImportFileException;
+import dev.magadiflo.app.listener.ItemChangeNotification;
+import dev.magadiflo.app.mapper.TagMapper;
+import dev.magadiflo.app.metrics.AppMetrics;
+import dev.magadiflo.app.model.dto.ItemImportEventResource;
+import dev.magadiflo.app.model.dto.ItemImportRowResource;
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.entity.ItemTag;
+import dev.magadiflo.app.model.entity.Person;
+import dev.magadiflo.app.model.entity.Tag;
+import dev.magadiflo.app.model.enums.ItemImportEventType;
+import dev.magadiflo.app.model.enums.ItemImportFormat;
+import dev.magadiflo.app.model.enums.ItemStatus;
+import dev.magadiflo.app.repository.ItemImportRepository;
+import dev.magadiflo.app.repository.ItemNotificationRepository;
+import dev.magadiflo.app.scheduling.AppSchedulers;
+import dev.magadiflo.app.service.ItemImportService;
+import dev.magadiflo.app.util.CsvRecordReader;
+import io.r2dbc.spi.R2dbcException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Importación de items desde un archivo CSV o NDJSON. El archivo se lee a medida que llega: los DataBuffer se
+ * decodifican en líneas, cada línea (o registro CSV) se convierte en una fila y las filas se escriben con COPY en lotes
+ * de {@code app.items.import.chunk-size}, cada uno en su propia transacción. Los nombres de personas y tags se
+ * resuelven contra las cachés de datos de referencia, que se leen una sola vez por importación.
+ * <p>
+ * La respuesta informa cada fila rechazada (con su línea y el motivo), el avance después de cada lote y un resumen
+ * al terminar. Si un lote falla en la base de datos se rechazan sus filas y la importación continúa con el siguiente.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ItemImportServiceImpl implements ItemImportService {
+
+    private static final String DESCRIPTION = "description";
+    private static final String STATUS = "status";
+    private static final String ASSIGNEE = "assignee";
+    private static final String TAGS = "tags";
+    private static final String CSV_TAG_SEPARATOR = "|";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final char NUL = '\u0000';
+
+    private final ItemImportRepository itemImportRepository;
+    private final ItemNotificationRepository itemNotificationRepository;
+    private final PersonCache personCache;
+    private final TagCache tagCache;
+    private final TagMapper tagMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionalOperator transactionalOperator;
+    private final ItemImportProperties itemImportProperties;
+    private final AppMetrics appMetrics;
+    private final AppSchedulers appSchedulers;
+
+    @Override
+    public Flux<ItemImportEventResource> importItems(Flux<DataBuffer> content, ItemImportFormat format) {
+        Flux<ItemImportEventResource> events = this.referenceNames()
+                .flatMapMany(names -> {
+                    ImportProgress progress = new ImportProgress();
+                    // Parsear y validar miles de filas es trabajo de CPU: se hace fuera del hilo de Netty que recibe el archivo
+                    Flux<String> lines = this.decodeLines(content).publishOn(this.appSchedulers.cpu());
+                    Flux<ParsedRow> rows = format == ItemImportFormat.CSV ? this.parseCsv(lines) : this.parseNdjson(lines);
+                    return rows.map(row -> this.resolve(row, names))
+                            .buffer(this.itemImportProperties.getChunkSize())
+                            .concatMap(chunk -> this.importChunk(chunk, progress))
+                            .concatWith(Mono.fromSupplier(() -> {
+                                log.info("Importación de items ({}): {} filas leídas, {} importadas y {} rechazadas en {} ms",
+                                        format, progress.read, progress.imported, progress.rejected, progress.elapsedMillis());
+                                return progress.event(ItemImportEventType.COMPLETED);
+                            }));
+                });
+        return this.appMetrics.itemService("importItems", events);
+    }
+
+    /**
+     * Divide el contenido en líneas sin reunir el archivo en memoria; una línea que no termina dentro de
+     * {@code max-record-size} detiene la importación.
+     */
+    private Flux<String> decodeLines(Flux<DataBuffer> content) {
+        StringDecoder decoder = StringDecoder.allMimeTypes();
+        decoder.setMaxInMemorySize((int) this.itemImportProperties.getMaxRecordSize().toBytes());
+        return decoder.decode(content, ResolvableType.forClass(String.class), null, Map.of())
+                .onErrorMap(DataBufferLimitException.class, exception -> new InvalidImportFileException(
+                        "hay una línea de más de %s".formatted(this.itemImportProperties.getMaxRecordSize())));
+    }
+
+    /**
+     * La primera fila es la cabecera e indica el orden de las columnas description, status, assignee y tags (solo
+     * description es obligatoria). Los tags de una fila se separan con {@code |}.
+     */
+    private Flux<ParsedRow> parseCsv(Flux<String> lines) {
+        return Flux.defer(() -> {
+            CsvRecordReader reader = new CsvRecordReader((int) this.itemImportProperties.getMaxRecordSize().toBytes());
+            Map<String, Integer> columns = new HashMap<>();
+            Flux<ParsedRow> rows = lines.handle((line, sink) -> {
+                List<String> record;
+                try {
+                    record = reader.read(line);
+                } catch (IllegalArgumentException exception) {
+                    sink.next(ParsedRow.rejected(reader.recordLineNumber(), exception.getMessage()));
+                    return;
+                }
+                if (record == null) return;
+
+                if (columns.isEmpty()) {
+                    columns.putAll(csvColumns(record));
+                } else if (record.size() > 1 || !record.get(0).isBlank()) {
+                    sink.next(this.csvRow(reader.recordLineNumber(), record, columns));
+                }
+            });
+            return rows.concatWith(Mono.defer(() -> reader.hasUnterminatedRecord() ?
+                    Mono.just(ParsedRow.rejected(reader.recordLineNumber(), "El archivo termina dentro de un campo entre comillas")) :
+                    Mono.empty()));
+        });
+    }
+
+    private static Map<String, Integer> csvColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace(BYTE_ORDER_MARK, "").trim().toLowerCase(Locale.ROOT);
+            if (!List.of(DESCRIPTION, STATUS, ASSIGNEE, TAGS).contains(name)) {
+                throw new InvalidImportFileException("la columna [%s] de la cabecera no es conocida".formatted(header.get(i)));
+            }
+            columns.put(name, i);
+        }
+        if (!columns.containsKey(DESCRIPTION)) {
+            throw new InvalidImportFileException("falta la columna [%s] en la cabecera".formatted(DESCRIPTION));
+        }
+        return columns;
+    }
+
+    private ParsedRow csvRow(long line, List<String> record, Map<String, Integer> columns) {
+        if (record.size() != columns.size()) {
+            return ParsedRow.rejected(line, "Se esperaban %d columnas y hay %d".formatted(columns.size(), record.size()));
+        }
+
+        String status = csvValue(record, columns, STATUS);
+        String tags = csvValue(record, columns, TAGS);
+        ItemImportRowResource row = ItemImportRowResource.builder()
+                .description(csvValue(record, columns, DESCRIPTION))
+                .assignee(csvValue(record, columns, ASSIGNEE))
+                .tags(tags == null ? null : Arrays.asList(StringUtils.tokenizeToStringArray(tags, CSV_TAG_SEPARATOR)))
+                .build();
+        if (status != null) {
+            try {
+                row.setStatus(ItemStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException exception) {
+                return ParsedRow.rejected(line, "El estado [%s] no es válido".formatted(status));
+            }
+        }
+        return new ParsedRow(line, row, null);
+    }
+
+    private static String csvValue(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null) return null;
+
+        String value = record.get(index);
+        return column.equals(DESCRIPTION) || StringUtils.hasText(value) ? value : null;
+    }
+
+    private Flux<ParsedRow> parseNdjson(Flux<String> lines) {
+        return lines.index()
+                .filter(indexed -> !indexed.getT2().isBlank())
+                .map(indexed -> {
+                    long line = indexed.getT1() + 1;
+                    try {
+                        return new ParsedRow(line, this.objectMapper.readValue(indexed.getT2(), ItemImportRowResource.class), null);
+                    } catch (JsonProcessingException exception) {
+                        return ParsedRow.rejected(line, exception.getOriginalMessage());
+                    }
+                });
+    }
+
+    /**
+     * Valida la fila y reemplaza los nombres de la persona y los tags por sus ids.
+     */
+    private ImportRow resolve(ParsedRow parsed, ReferenceNames names) {
+        if (parsed.error() != null) return ImportRow.rejected(parsed.line(), parsed.error());
+
+        ItemImportRowResource row = parsed.row();
+        Set<ConstraintViolation<ItemImportRowResource>> violations = this.validator.validate(row);
+        if (!violations.isEmpty()) {
+            return ImportRow.rejected(parsed.line(), violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+
+        if (row.getDescription().indexOf(NUL) >= 0) {
+            return ImportRow.rejected(parsed.line(), "description: PostgreSQL no admite el carácter NUL en un texto");
+        }
+
+        Long assigneeId = null;
+        if (StringUtils.hasText(row.getAssignee())) {
+            List<Long> personIds = names.persons().getOrDefault(normalize(row.getAssignee()), List.of());
+            if (personIds.size() != 1) {
+                return ImportRow.rejected(parsed.line(), personIds.isEmpty() ?
+                        "No existe la persona [%s]".formatted(row.getAssignee()) :
+                        "Hay %d personas llamadas [%s]".formatted(personIds.size(), row.getAssignee()));
+            }
+            assigneeId = personIds.get(0);
+        }
+
+        Set<Long> tagIds = new LinkedHashSet<>();
+        for (String tag : Objects.requireNonNullElse(row.getTags(), List.<String>of())) {
+            if (!StringUtils.hasText(tag)) continue;
+
+            List<Long> ids = names.tags().getOrDefault(normalize(tag), List.of());
+            if (ids.size() != 1) {
+                return ImportRow.rejected(parsed.line(), ids.isEmpty() ?
+                        "No existe el tag [%s]".formatted(tag) :
+                        "Hay %d tags llamados [%s]".formatted(ids.size(), tag));
+            }
+            tagIds.add(ids.get(0));
+        }
+
+        Item item = Item.builder()
+                .description(row.getDescription())
+                .status(row.getStatus() != null ? row.getStatus() : ItemStatus.TO_DO)
+                .assigneeId(assigneeId)
+                .build();
+        return new ImportRow(parsed.line(), item, tagIds, null);
+    }
+
+    private Flux<ItemImportEventResource> importChunk(List<ImportRow> chunk, ImportProgress progress) {
+        List<ImportRow> valid = chunk.stream().filter(row -> row.error() == null).toList();
+        List<ItemImportEventResource> rejected = chunk.stream()
+                .filter(row -> row.error() != null)
+                .map(row -> rejected(row.line(), row.error()))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        Mono<Long> written = valid.isEmpty() ?
+                Mono.just(0L) :
+                this.copyChunk(valid).as(this.transactionalOperator::transactional);
+        return written
+                .onErrorResume(exception -> exception instanceof DataAccessException || exception instanceof R2dbcException, exception -> {
+                    String cause = NestedExceptionUtils.getMostSpecificCause(exception).getMessage();
+                    log.warn("No se pudo importar el lote de las líneas {} a {}: {}", valid.get(0).line(),
+                            valid.get(valid.size() - 1).line(), cause);
+                    valid.forEach(row -> rejected.add(rejected(row.line(), "El lote no se pudo escribir: " + cause)));
+                    return Mono.just(0L);
+                })
+                .flatMapMany(imported -> {
+                    progress.read += chunk.size();
+                    progress.imported += imported;
+                    progress.rejected += rejected.size();
+                    rejected.sort(Comparator.comparing(ItemImportEventResource::getLine));
+                    return Flux.fromIterable(rejected)
+                            .concatWith(Mono.just(progress.event(ItemImportEventType.PROGRESS)));
+                });
+    }
+
+    private Mono<Long> copyChunk(List<ImportRow> rows) {
+        return this.itemImportRepository.nextItemIds(rows.size())
+                .collectList()
+                .flatMap(ids -> {
+                    List<Item> items = new ArrayList<>(rows.size());
+                    List<ItemTag> itemTags = new ArrayList<>();
+                    for (int i = 0; i < rows.size(); i++) {
+                        Item item = rows.get(i).item();
+                        item.setId(ids.get(i));
+                        items.add(item);
+                        itemTags.addAll(this.tagMapper.toItemTags(item.getId(), rows.get(i).tagIds()));
+                    }
+                    // Una sola notificación con los ids del lote en lugar de las de cada COPY (items e items_tags)
+                    return this.itemNotificationRepository.suppressTriggerNotifications()
+                            .then(this.itemImportRepository.copyItems(items, LocalDateTime.now()))
+                            .flatMap(copied -> this.itemImportRepository.copyItemTags(itemTags)
+                                    .then(this.itemNotificationRepository.notify(ItemChangeNotification.Operation.INSERT, ids))
+                                    .thenReturn(copied));
+                });
+    }
+
+    /**
+     * Índices nombre → ids armados una vez por importación a partir de las cachés. Un nombre puede repetirse, por
+     * eso se guardan todos los ids y la fila se rechaza si es ambiguo.
+     */
+    private Mono<ReferenceNames> referenceNames() {
+        return Mono.zip(
+                        this.personCache.findAll().collect(Collectors.groupingBy(
+                                person -> normalize(person.getFirstName() + " " + person.getLastName()),
+                                Collectors.mapping(Person::getId, Collectors.toList()))),
+                        this.tagCache.findAll().collect(Collectors.groupingBy(
+                                tag -> normalize(tag.getName()),
+                                Collectors.mapping(Tag::getId, Collectors.toList()))))
+                .map(tuple -> new ReferenceNames(tuple.getT1(), tuple.getT2()));
+    }
+
+    private static String normalize(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static ItemImportEventResource rejected(long line, String message) {
+        return ItemImportEventResource.builder()
+                .type(ItemImportEventType.REJECTED)
+                .line(line)
+                .message(message)
+                .build();
+    }
+
+    private record ReferenceNames(Map<String, List<Long>> persons, Map<String, List<Long>> tags) {
+    }
+
+    private record ParsedRow(long line, ItemImportRowResource row, String error) {
+        static ParsedRow rejected(long line, String error) {
+            return new ParsedRow(line, null, error);
+        }
+    }
+
+    private record ImportRow(long line, Item item, Set<Long> tagIds, String error) {
+        static ImportRow rejected(long line, String error) {
+            return new ImportRow(line, null, null, error);
+        }
+    }
+
+    /**
+     * Totales de una importación. Los lotes se procesan de a uno ({@code concatMap}), así que no hay escrituras
+     * concurrentes.
+     */
+    private static class ImportProgress {
+        private final long startNanos = System.nanoTime();
+        private long read;
+        private long imported;
+        private long rejected;
+
+        long elapsedMillis() {
+            return (System.nanoTime() - this.startNanos) / 1_000_000;
+        }
+
+        ItemImportEventResource event(ItemImportEventType type) {
+            return ItemImportEventResource.builder()
+                    .type(type)
+                    .read(this.read)
+                    .imported(this.imported)
+                    .rejected(this.rejected)
+                    .build();
+        }
+    }
+}
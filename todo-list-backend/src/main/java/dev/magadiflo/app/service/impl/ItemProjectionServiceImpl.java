@@ -0,0 +1,105 @@
+package dev.magadiflo.app.service.impl;
+
+import dev.magadiflo.app.config.ItemStreamProperties;
+import dev.magadiflo.app.exception.ItemNotFoundException;
+import dev.magadiflo.app.model.dto.ItemCollectionRevisionResource;
+import dev.magadiflo.app.model.dto.ItemPageResource;
+import dev.magadiflo.app.model.dto.ItemPatchResource;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.dto.ItemRevisionResource;
+import dev.magadiflo.app.model.dto.ItemSearchCriteria;
+import dev.magadiflo.app.model.dto.ItemUpdateResource;
+import dev.magadiflo.app.model.dto.NewItemResource;
+import dev.magadiflo.app.repository.ItemReadRepository;
+import dev.magadiflo.app.service.ItemService;
+import dev.magadiflo.app.util.ItemCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Implementación alternativa de {@link ItemService} que resuelve las lecturas con el modelo de lectura
+ * {@link ItemReadRepository} (una consulta por vista) y delega las escrituras en {@link ItemServiceImpl}.
+ * Se activa con {@code app.items.read-model=projection}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Primary
+@Service
+@ConditionalOnProperty(prefix = "app.items", name = "read-model", havingValue = "projection")
+@Transactional(readOnly = true)
+public class ItemProjectionServiceImpl implements ItemService {
+
+    private final ItemReadRepository itemReadRepository;
+    private final ItemServiceImpl itemServiceImpl;
+    private final ItemStreamProperties itemStreamProperties;
+
+    @Override
+    public Flux<ItemResource> findAllItems() {
+        return this.itemReadRepository.findAll(this.itemStreamProperties.getFetchSize());
+    }
+
+    @Override
+    public Flux<ItemResource> findItems(ItemSearchCriteria criteria, ItemCursor after, Integer limit) {
+        return this.itemServiceImpl.findItems(criteria, after, limit);
+    }
+
+    @Override
+    public Mono<ItemPageResource> findItemPage(ItemSearchCriteria criteria, ItemCursor after, int limit) {
+        return this.itemServiceImpl.findItemPage(criteria, after, limit);
+    }
+
+    @Override
+    public Mono<ItemResource> findItemById(Long itemId, boolean loadRelations) {
+        if (!loadRelations) return this.itemServiceImpl.findItemById(itemId, false);
+
+        return this.itemReadRepository.findById(itemId)
+                .switchIfEmpty(Mono.error(new ItemNotFoundException(itemId)));
+    }
+
+    @Override
+    public Flux<ItemResource> findItemsByIds(Collection<Long> itemIds) {
+        return this.itemReadRepository.findAllById(itemIds);
+    }
+
+    @Override
+    public Mono<ItemRevisionResource> findItemRevision(Long itemId) {
+        return this.itemServiceImpl.findItemRevision(itemId);
+    }
+
+    @Override
+    public Mono<ItemCollectionRevisionResource> findItemCollectionRevision() {
+        return this.itemServiceImpl.findItemCollectionRevision();
+    }
+
+    @Override
+    @Transactional
+    public Mono<ItemResource> createItem(NewItemResource newItemResource) {
+        return this.itemServiceImpl.createItem(newItemResource);
+    }
+
+    @Override
+    @Transactional
+    public Mono<ItemResource> updateItem(Long itemId, ItemUpdateResource itemUpdateResource, Long version) {
+        return this.itemServiceImpl.updateItem(itemId, itemUpdateResource, version);
+    }
+
+    @Override
+    @Transactional
+    public Mono<ItemResource> patchItem(Long itemId, ItemPatchResource itemPatchResource, Long version) {
+        return this.itemServiceImpl.patchItem(itemId, itemPatchResource, version);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteItemById(Long itemId, Long version) {
+        return this.itemServiceImpl.deleteItemById(itemId, version);
+    }
+}
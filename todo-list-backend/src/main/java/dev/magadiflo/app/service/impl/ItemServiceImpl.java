@@ -1,28 +1,41 @@
 package dev.magadiflo.app.service.impl;
 
+import dev.magadiflo.app.cache.PersonCache;
+import dev.magadiflo.app.cache.TagCache;
+import dev.magadiflo.app.config.ItemStreamProperties;
 import dev.magadiflo.app.exception.ItemNotFoundException;
 import dev.magadiflo.app.exception.UnexpectedItemVersionException;
 import dev.magadiflo.app.mapper.ItemMapper;
 import dev.magadiflo.app.mapper.TagMapper;
+import dev.magadiflo.app.metrics.AppMetrics;
+import dev.magadiflo.app.model.dto.ItemCollectionRevisionResource;
+import dev.magadiflo.app.model.dto.ItemPageResource;
+import dev.magadiflo.app.model.dto.ItemPatchResource;
 import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.dto.ItemRevisionResource;
+import dev.magadiflo.app.model.dto.ItemSearchCriteria;
 import dev.magadiflo.app.model.dto.ItemUpdateResource;
 import dev.magadiflo.app.model.dto.NewItemResource;
 import dev.magadiflo.app.model.entity.Item;
 import dev.magadiflo.app.model.entity.ItemTag;
+import dev.magadiflo.app.model.entity.Person;
+import dev.magadiflo.app.model.entity.Tag;
 import dev.magadiflo.app.repository.ItemRepository;
+import dev.magadiflo.app.repository.ItemSearchRepository;
 import dev.magadiflo.app.repository.ItemTagRepository;
-import dev.magadiflo.app.repository.PersonRepository;
-import dev.magadiflo.app.repository.TagRepository;
 import dev.magadiflo.app.service.ItemService;
+import dev.magadiflo.app.util.ItemCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -30,35 +43,69 @@ import java.util.Collection;
 @Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
 
-    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.by("last_modified_date"));
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(Tag::getName).thenComparing(Tag::getId);
 
-    private final PersonRepository personRepository;
     private final ItemRepository itemRepository;
-    private final TagRepository tagRepository;
+    private final ItemSearchRepository itemSearchRepository;
     private final ItemTagRepository itemTagRepository;
+    private final PersonCache personCache;
+    private final TagCache tagCache;
     private final ItemMapper itemMapper;
     private final TagMapper tagMapper;
-
+    private final AppMetrics appMetrics;
+    private final ItemStreamProperties itemStreamProperties;
 
     @Override
     public Flux<ItemResource> findAllItems() {
-        return this.itemRepository.findAll(DEFAULT_SORT)
-                .flatMap(this::loadRelations)
-                .map(this.itemMapper::toItemResource);
+        return this.appMetrics.itemService("findAllItems", this.searchItems(new ItemSearchCriteria(), null, null));
+    }
+
+    @Override
+    public Flux<ItemResource> findItems(ItemSearchCriteria criteria, ItemCursor after, Integer limit) {
+        return this.appMetrics.itemService("findItems", this.searchItems(criteria, after, limit));
+    }
+
+    @Override
+    public Mono<ItemPageResource> findItemPage(ItemSearchCriteria criteria, ItemCursor after, int limit) {
+        return this.appMetrics.itemService("findItemPage", this.searchItems(criteria, after, limit)
+                .collectList()
+                .map(items -> ItemPageResource.builder()
+                        .content(items)
+                        .nextCursor(items.size() < limit ? null : ItemCursor.of(items.get(items.size() - 1)).encode())
+                        .build()));
     }
 
     @Override
     public Mono<ItemResource> findItemById(Long itemId, boolean loadRelations) {
         Mono<Item> itemDB = this.findAndItemById(itemId, null);
-        return loadRelations ?
+        return this.appMetrics.itemService("findItemById", loadRelations ?
                 itemDB.flatMap(this::loadRelations).map(this.itemMapper::toItemResource) :
-                itemDB.map(this.itemMapper::toItemResource);
+                itemDB.map(this.itemMapper::toItemResource));
+    }
+
+    @Override
+    public Flux<ItemResource> findItemsByIds(Collection<Long> itemIds) {
+        return this.appMetrics.itemService("findItemsByIds", this.itemRepository.findAllById(itemIds)
+                .collectList()
+                .flatMapMany(items -> items.isEmpty() ? Flux.<Item>empty() : this.loadRelations(items))
+                .map(this.itemMapper::toItemResource));
+    }
+
+    @Override
+    public Mono<ItemRevisionResource> findItemRevision(Long itemId) {
+        return this.appMetrics.itemService("findItemRevision", this.itemRepository.findRevisionById(itemId)
+                .switchIfEmpty(Mono.error(new ItemNotFoundException(itemId))));
+    }
+
+    @Override
+    public Mono<ItemCollectionRevisionResource> findItemCollectionRevision() {
+        return this.appMetrics.itemService("findItemCollectionRevision", this.itemRepository.findCollectionRevision());
     }
 
     @Override
     @Transactional
     public Mono<ItemResource> createItem(NewItemResource newItemResource) {
-        return this.itemRepository.save(this.itemMapper.toItem(newItemResource))
+        return this.appMetrics.itemService("createItem", this.itemRepository.save(this.itemMapper.toItem(newItemResource))
                 .flatMap(itemDB -> {
                     Collection<ItemTag> itemTags = this.tagMapper.toItemTags(itemDB.getId(), newItemResource.getTagIds());
                     return this.itemTagRepository
@@ -67,61 +114,161 @@ public class ItemServiceImpl implements ItemService {
                             .thenReturn(itemDB);
                 })
                 .flatMap(this::loadRelations)
-                .map(this.itemMapper::toItemResource);
+                .map(this.itemMapper::toItemResource));
     }
 
     @Override
     @Transactional
     public Mono<ItemResource> updateItem(Long itemId, ItemUpdateResource itemUpdateResource, Long version) {
-        return this.findAndItemById(itemId, version)
-                .flatMap(itemDB -> this.itemTagRepository.findAllByItemId(itemDB.getId()).collectList()
-                        .flatMap(currentItemTags -> {
-                            Collection<Long> existingTagIds = this.tagMapper.extractTagIdsFromItemTags(currentItemTags);
-                            Collection<Long> tagIdsToSave = itemUpdateResource.getTagIds();
-
-                            // Item Tags a ser eliminados
-                            Collection<ItemTag> removedItemTags = currentItemTags.stream()
-                                    .filter(itemTag -> !tagIdsToSave.contains(itemTag.getTagId()))
-                                    .toList();
-
-                            // Item Tags a ser insertados
-                            Collection<ItemTag> addedItemTags = tagIdsToSave.stream()
-                                    .filter(tagId -> !existingTagIds.contains(tagId))
-                                    .map(tagId -> ItemTag.builder().itemId(itemId).tagId(tagId).build())
-                                    .toList();
-
-                            return this.itemTagRepository.deleteAll(removedItemTags)
-                                    .then(this.itemTagRepository.saveAll(addedItemTags).collectList())
-                                    .thenReturn(itemDB);
-                        })
-                )
-                .flatMap(itemDB -> this.itemRepository.save(this.itemMapper.update(itemUpdateResource, itemDB)))
+        Item item = this.itemMapper.update(itemUpdateResource, Item.builder().id(itemId).build());
+        Long[] tagIds = this.tagMapper.toTagIdArray(itemUpdateResource.getTagIds());
+
+        // Primero el UPDATE guardado por la versión: si no afecta filas no se toca items_tags
+        return this.timedWrite("updateItem", this.itemRepository.update(itemId, version, item.getDescription(), item.getStatus(),
+                        item.getAssigneeId(), LocalDateTime.now())
+                .switchIfEmpty(Mono.defer(() -> this.writeConflict(itemId, version)))
+                // Diferencia de tags resuelta en la base de datos: una sentencia para quitar y otra para agregar
+                .flatMap(itemDB -> this.itemTagRepository.deleteAllByItemIdAndTagIdNotIn(itemId, tagIds)
+                        .then(this.itemTagRepository.insertAllMissing(itemId, tagIds))
+                        .thenReturn(itemDB))
                 .flatMap(this::loadRelations)
-                .map(this.itemMapper::toItemResource);
+                .map(this.itemMapper::toItemResource));
+    }
+
+    @Override
+    @Transactional
+    public Mono<ItemResource> patchItem(Long itemId, ItemPatchResource itemPatchResource, Long version) {
+        Map<String, Object> columns = this.itemMapper.toPatchedColumns(itemPatchResource);
+        if (columns.isEmpty() && itemPatchResource.getTagIds() == null) {
+            // Patch vacío: no hay nada que escribir, solo se valida la versión
+            return this.timedWrite("patchItem", this.findAndItemById(itemId, version)
+                    .flatMap(this::loadRelations)
+                    .map(this.itemMapper::toItemResource));
+        }
+
+        // Sin tagIds no se toca items_tags
+        Mono<Integer> tagChanges = Mono.empty();
+        if (itemPatchResource.getTagIds() != null) {
+            Long[] tagIds = this.tagMapper.toTagIdArray(itemPatchResource.getTagIds());
+            tagChanges = this.itemTagRepository.deleteAllByItemIdAndTagIdNotIn(itemId, tagIds)
+                    .then(this.itemTagRepository.insertAllMissing(itemId, tagIds));
+        }
+
+        Mono<Integer> finalTagChanges = tagChanges;
+        return this.timedWrite("patchItem", this.itemRepository.updateColumns(itemId, version, columns, LocalDateTime.now())
+                .switchIfEmpty(Mono.defer(() -> this.writeConflict(itemId, version)))
+                .flatMap(itemDB -> finalTagChanges.thenReturn(itemDB))
+                .flatMap(this::loadRelations)
+                .map(this.itemMapper::toItemResource));
     }
 
     @Override
     @Transactional
     public Mono<Void> deleteItemById(Long itemId, Long version) {
-        return this.findAndItemById(itemId, version)
-                .zipWith(this.itemTagRepository.deleteAllByItemId(itemId), (itemDB, affectedRows) -> itemDB)
-                .flatMap(this.itemRepository::delete);
+        return this.timedWrite("deleteItemById", this.itemTagRepository.deleteAllByItemIdAndItemVersion(itemId, version)
+                .then(this.itemRepository.deleteByIdAndVersion(itemId, version))
+                .flatMap(affectedRows -> affectedRows == 0 ? this.writeConflict(itemId, version) : Mono.empty())
+                .then());
     }
 
-    private Mono<Item> loadRelations(Item item) {
-        Mono<Item> itemMono = Mono.just(item)
-                .zipWith(this.tagRepository.findTagsByItemId(item.getId()).collectList(), (itemToReturn, tags) -> {
-                    itemToReturn.setTags(tags);
-                    return itemToReturn;
+    /**
+     * Mide una escritura y cuenta las que el bloqueo optimista rechaza.
+     */
+    private <T> Mono<T> timedWrite(String operation, Mono<T> write) {
+        return this.appMetrics.itemService(operation, write
+                .doOnError(UnexpectedItemVersionException.class, exception -> this.appMetrics.versionConflict(operation)));
+    }
+
+    /**
+     * Se invoca solo cuando una escritura guardada por la versión no afectó filas: consulta el item para distinguir si
+     * no existe o si cambió de versión.
+     */
+    private <T> Mono<T> writeConflict(Long itemId, Long expectedVersion) {
+        return this.itemRepository.findById(itemId)
+                .switchIfEmpty(Mono.error(new ItemNotFoundException(itemId)))
+                .flatMap(itemDB -> Mono.error(new UnexpectedItemVersionException(expectedVersion, itemDB.getVersion())));
+    }
+
+    /**
+     * Lee los items por lotes de {@code app.items.stream.fetch-size} avanzando con el cursor del último item de cada
+     * lote. Dentro de la transacción todas las consultas comparten una sola conexión, por eso nunca hay dos abiertas a
+     * la vez: cada lote se lee completo, luego se consultan sus relaciones y solo entonces empieza el lote siguiente.
+     * Con una consulta abierta para todos los items, o con la del lote siguiente en curso, las consultas de relaciones
+     * quedarían en cola detrás de ella y la conexión se detendría.
+     * El lote siguiente se consulta recién cuando el suscriptor pide más items, así un listado de cualquier tamaño
+     * ocupa en memoria como mucho un par de lotes y avanza al ritmo del cliente.
+     */
+    private Flux<ItemResource> searchItems(ItemSearchCriteria criteria, ItemCursor after, Integer limit) {
+        return this.findBatch(criteria, after, limit)
+                .expand(batch -> batch.last() ?
+                        Mono.empty() :
+                        this.findBatch(criteria, ItemCursor.of(batch.items().get(batch.items().size() - 1)), batch.remaining()))
+                .concatMapIterable(ItemBatch::items, 1)
+                .map(this.itemMapper::toItemResource);
+    }
+
+    private Mono<ItemBatch> findBatch(ItemSearchCriteria criteria, ItemCursor after, Integer remaining) {
+        int fetchSize = this.itemStreamProperties.getFetchSize();
+        int batchSize = remaining == null ? fetchSize : Math.min(remaining, fetchSize);
+        return this.itemSearchRepository.findItems(criteria, after, batchSize)
+                .collectList()
+                .flatMap(items -> items.isEmpty() ? Mono.just(items) : this.loadRelations(items).collectList())
+                .map(items -> {
+                    Integer stillRemaining = remaining == null ? null : remaining - items.size();
+                    boolean last = items.size() < batchSize || (stillRemaining != null && stillRemaining == 0);
+                    return new ItemBatch(items, stillRemaining, last);
                 });
-        if (item.getAssigneeId() != null) {
-            itemMono = itemMono.zipWith(this.personRepository.findById(item.getAssigneeId()), (itemReturn, person) -> {
-                itemReturn.setAssignee(person);
-                return itemReturn;
-            });
-        }
+    }
+
+    // remaining es null cuando no hay límite
+    private record ItemBatch(List<Item> items, Integer remaining, boolean last) {
+    }
+
+    private Mono<Item> loadRelations(Item item) {
+        return this.loadRelations(List.of(item)).single();
+    }
+
+    /**
+     * Carga los tags y el assignee de un lote de items: una consulta a items_tags para todo el lote y los tags y
+     * persons desde las cachés de datos de referencia. Los items se devuelven en el mismo orden en el que llegaron.
+     * Se registra cuántas consultas emitió el lote: la de items_tags más una por cada caché que tuvo que ir a la base.
+     */
+    private Flux<Item> loadRelations(List<Item> items) {
+        Long[] itemIds = items.stream()
+                .map(Item::getId)
+                .toArray(Long[]::new);
+        Set<Long> assigneeIds = items.stream()
+                .map(Item::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
 
-        return itemMono;
+        AtomicInteger queries = new AtomicInteger(1);
+        return this.itemTagRepository.findAllByItemIds(itemIds)
+                .collect(Collectors.groupingBy(ItemTag::getItemId,
+                        Collectors.mapping(ItemTag::getTagId, Collectors.toList())))
+                .flatMapMany(tagIdsByItemId -> {
+                    Set<Long> tagIds = tagIdsByItemId.values().stream()
+                            .flatMap(Collection::stream)
+                            .collect(Collectors.toSet());
+                    return Mono.zip(this.tagCache.findAllById(tagIds, queries::incrementAndGet),
+                                    this.personCache.findAllById(assigneeIds, queries::incrementAndGet))
+                            .doOnNext(references -> this.appMetrics.relationsLoaded(items.size(), queries.get()))
+                            .flatMapIterable(references -> {
+                                Map<Long, Tag> tagsById = references.getT1();
+                                Map<Long, Person> assigneesById = references.getT2();
+                                items.forEach(item -> {
+                                    item.setTags(tagIdsByItemId.getOrDefault(item.getId(), List.of()).stream()
+                                            .map(tagsById::get)
+                                            .filter(Objects::nonNull)
+                                            .sorted(TAG_ORDER)
+                                            .collect(Collectors.toCollection(ArrayList::new)));
+                                    if (item.getAssigneeId() != null) {
+                                        item.setAssignee(assigneesById.get(item.getAssigneeId()));
+                                    }
+                                });
+                                return items;
+                            });
+                });
     }
 
     private Mono<Item> findAndItemById(Long itemId, Long expectedVersion) {
@@ -0,0 +1,28 @@
+package dev.magadiflo.app.tracing;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cantidad de sentencias y tiempo total en la base de datos de una petición. {@link QueryStatsWebFilter} lo crea y lo
+ * deja en el contexto de Reactor; {@link QueryTracingListener} lo encuentra en el contexto de cada sentencia.
+ * Las sentencias de una petición pueden terminar en hilos distintos, por eso los contadores son concurrentes.
+ */
+public class QueryStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    void record(Duration duration) {
+        this.count.increment();
+        this.nanos.add(duration.toNanos());
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public Duration time() {
+        return Duration.ofNanos(this.nanos.sum());
+    }
+}
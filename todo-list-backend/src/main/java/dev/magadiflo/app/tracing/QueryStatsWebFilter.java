@@ -0,0 +1,71 @@
+package dev.magadiflo.app.tracing;
+
+import dev.magadiflo.app.config.QueryTracingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cuenta las sentencias que ejecuta cada petición y el tiempo que pasan en la base de datos.
+ * <ul>
+ *     <li>Al enviar las cabeceras agrega {@code X-Query-Count} y {@code Server-Timing: db;dur=...}. En las respuestas
+ *     que se envían en streaming (SSE) las cabeceras salen antes de las consultas y solo reflejan las previas.</li>
+ *     <li>Al terminar la petición escribe una línea de log con los totales; en WARN si supera el umbral de consultas,
+ *     para que un N+1 se vea sin activar el log de cada sentencia.</li>
+ * </ul>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "app.r2dbc.query-tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsWebFilter implements WebFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final QueryTracingProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        QueryStats queryStats = new QueryStats();
+        long start = System.nanoTime();
+
+        if (this.properties.isResponseHeaders()) {
+            exchange.getResponse().beforeCommit(() -> {
+                HttpHeaders headers = exchange.getResponse().getHeaders();
+                headers.set(QUERY_COUNT_HEADER, String.valueOf(queryStats.count()));
+                headers.add(SERVER_TIMING_HEADER, String.format(Locale.ROOT, "db;dur=%.1f", queryStats.time().toNanos() / 1_000_000.0));
+                return Mono.empty();
+            });
+        }
+
+        return chain.filter(exchange)
+                .doFinally(signalType -> this.log(exchange, queryStats, System.nanoTime() - start))
+                .contextWrite(context -> context.put(QueryStats.class, queryStats));
+    }
+
+    private void log(ServerWebExchange exchange, QueryStats queryStats, long elapsedNanos) {
+        boolean tooManyQueries = queryStats.count() > this.properties.getQueryCountWarnThreshold();
+        if (!tooManyQueries && !log.isDebugEnabled()) return;
+
+        ServerHttpRequest request = exchange.getRequest();
+        String line = String.format(Locale.ROOT, "method=%s path=%s status=%s queries=%d dbTimeMs=%.1f elapsedMs=%d",
+                request.getMethod(), request.getPath().value(), exchange.getResponse().getStatusCode(),
+                queryStats.count(), queryStats.time().toNanos() / 1_000_000.0, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        if (tooManyQueries) {
+            log.warn("Petición con demasiadas consultas: {}", line);
+        } else {
+            log.debug(line);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package dev.magadiflo.app.tracing;
+
+import dev.magadiflo.app.config.QueryTracingProperties;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.proxy.support.QueryExecutionInfoFormatter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Listener de r2dbc-proxy que se ejecuta al terminar cada sentencia. Suma la sentencia al {@link QueryStats} de la
+ * petición y registra en el log solo las que superan el umbral de consulta lenta. r2dbc-proxy guarda el contexto de
+ * Reactor del suscriptor de la sentencia en el {@code ValueStore}; así se llega a la petición sin ThreadLocal.
+ * Las sentencias que se ejecutan fuera de una petición (cargas de las cachés, LISTEN) no tienen {@link QueryStats}.
+ */
+@Slf4j
+public class QueryTracingListener implements ProxyExecutionListener {
+
+    private static final QueryExecutionInfoFormatter QUERY_FORMATTER = new QueryExecutionInfoFormatter()
+            .showSuccess()
+            .showBatchSize()
+            .showBindingsSize()
+            .showQuery();
+    private static final QueryExecutionInfoFormatter QUERY_WITH_BINDINGS_FORMATTER = new QueryExecutionInfoFormatter()
+            .showSuccess()
+            .showBatchSize()
+            .showBindingsSize()
+            .showQuery()
+            .showBindings();
+
+    private final Duration slowQueryThreshold;
+    private final double parameterSampleRate;
+
+    public QueryTracingListener(QueryTracingProperties properties) {
+        this.slowQueryThreshold = properties.getSlowQueryThreshold();
+        this.parameterSampleRate = properties.getParameterSampleRate();
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo executionInfo) {
+        Duration duration = executionInfo.getExecuteDuration();
+
+        ContextView context = executionInfo.getValueStore().get(ContextView.class, ContextView.class);
+        if (context != null) {
+            context.<QueryStats>getOrEmpty(QueryStats.class).ifPresent(queryStats -> queryStats.record(duration));
+        }
+
+        if (duration.compareTo(this.slowQueryThreshold) >= 0 && log.isWarnEnabled()) {
+            boolean withBindings = ThreadLocalRandom.current().nextDouble() < this.parameterSampleRate;
+            log.warn("Consulta lenta ({} ms): {}", duration.toMillis(),
+                    (withBindings ? QUERY_WITH_BINDINGS_FORMATTER : QUERY_FORMATTER).format(executionInfo));
+        }
+    }
+}
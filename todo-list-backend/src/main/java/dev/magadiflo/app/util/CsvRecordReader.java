@@ -0,0 +1,92 @@
+package dev.magadiflo.app.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arma registros CSV (RFC 4180) a partir de las líneas del archivo, que se reciben de a una. Un campo entre comillas
+ * puede contener comas, comillas dobles escritas como {@code ""} y saltos de línea, así que un registro puede ocupar
+ * varias líneas. Solo se retiene el registro en curso.
+ */
+public class CsvRecordReader {
+
+    private final int maxRecordLength;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private boolean quoted;
+    private int recordLength;
+    private long lineNumber;
+    private long recordLineNumber;
+
+    public CsvRecordReader(int maxRecordLength) {
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * @return los campos del registro si la línea lo completa, o null si continúa en la línea siguiente
+     * @throws IllegalArgumentException si el registro supera el tamaño máximo; se descarta y la lectura sigue
+     *                                  con la próxima línea
+     */
+    public List<String> read(String line) {
+        this.lineNumber++;
+        if (this.quoted) {
+            this.field.append('\n');
+        } else {
+            this.recordLineNumber = this.lineNumber;
+        }
+
+        this.recordLength += line.length();
+        if (this.recordLength > this.maxRecordLength) {
+            this.reset();
+            throw new IllegalArgumentException("El registro supera los %d caracteres".formatted(this.maxRecordLength));
+        }
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (this.quoted) {
+                if (c != '"') {
+                    this.field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    this.field.append('"');
+                    i++;
+                } else {
+                    this.quoted = false;
+                }
+            } else if (c == '"') {
+                this.quoted = true;
+            } else if (c == ',') {
+                this.fields.add(this.field.toString());
+                this.field.setLength(0);
+            } else {
+                this.field.append(c);
+            }
+        }
+        if (this.quoted) return null;
+
+        this.fields.add(this.field.toString());
+        List<String> record = List.copyOf(this.fields);
+        this.reset();
+        return record;
+    }
+
+    /**
+     * Línea (desde 1) en la que empieza el último registro leído.
+     */
+    public long recordLineNumber() {
+        return this.recordLineNumber;
+    }
+
+    /**
+     * true si el archivo terminó dentro de un campo entre comillas.
+     */
+    public boolean hasUnterminatedRecord() {
+        return this.quoted;
+    }
+
+    private void reset() {
+        this.fields.clear();
+        this.field.setLength(0);
+        this.quoted = false;
+        this.recordLength = 0;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.magadiflo.app.util;
+
+import dev.magadiflo.app.exception.InvalidCursorException;
+import dev.magadiflo.app.model.dto.ItemResource;
+import dev.magadiflo.app.model.entity.Item;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posición de un item dentro del orden {@code (last_modified_date, id)}. Se intercambia con el cliente como un texto
+ * opaco (Base64 URL) para que pueda reanudar la lectura desde ese punto sin usar OFFSET.
+ */
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ItemCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime lastModifiedDate;
+    private final Long id;
+
+    public static ItemCursor of(ItemResource itemResource) {
+        return new ItemCursor(itemResource.getLastModifiedDate(), itemResource.getId());
+    }
+
+    public static ItemCursor of(Item item) {
+        return new ItemCursor(item.getLastModifiedDate(), item.getId());
+    }
+
+    public static ItemCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+            return new ItemCursor(LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    Long.valueOf(value.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String value = this.lastModifiedDate + SEPARATOR + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
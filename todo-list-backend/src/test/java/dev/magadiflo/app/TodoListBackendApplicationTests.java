@@ -3,7 +3,7 @@ package dev.magadiflo.app;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.blocking-detection.enabled=true")
 class TodoListBackendApplicationTests {
 
 	@Test
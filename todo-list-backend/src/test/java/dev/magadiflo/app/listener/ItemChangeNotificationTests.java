@@ -0,0 +1,64 @@
+package dev.magadiflo.app.listener;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemChangeNotificationTests {
+
+    @Test
+    void parsesTheIdsOfAStatement() {
+        ItemChangeNotification notification = ItemChangeNotification.parse("INSERT:3,10,25");
+
+        assertThat(notification.getOperation()).isEqualTo(ItemChangeNotification.Operation.INSERT);
+        assertThat(notification.getItemIds()).containsExactly(3L, 10L, 25L);
+        assertThat(notification.getArchivedUntil()).isNull();
+    }
+
+    @Test
+    void parsesASingleId() {
+        ItemChangeNotification notification = ItemChangeNotification.parse("DELETE:7");
+
+        assertThat(notification.getOperation()).isEqualTo(ItemChangeNotification.Operation.DELETE);
+        assertThat(notification.getItemIds()).containsExactly(7L);
+    }
+
+    @Test
+    void parsesTheCursorOfAnArchive() {
+        ItemChangeNotification notification = ItemChangeNotification.parse("ARCHIVE:MjAyNi0xMC0xOFQwMzo0Mjox");
+
+        assertThat(notification.getOperation()).isEqualTo(ItemChangeNotification.Operation.ARCHIVE);
+        assertThat(notification.getItemIds()).isEmpty();
+        assertThat(notification.getArchivedUntil()).isEqualTo("MjAyNi0xMC0xOFQwMzo0Mjox");
+    }
+
+    @Test
+    void rejectsAnUnknownOperation() {
+        assertThatThrownBy(() -> ItemChangeNotification.parse("TRUNCATE:1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void splitsThePayloadsAtTheMaximumIdsPerPayload() {
+        List<Long> itemIds = LongStream.rangeClosed(1, 650).boxed().toList();
+
+        List<String> payloads = ItemChangeNotification.payloads(ItemChangeNotification.Operation.UPDATE, itemIds);
+
+        assertThat(payloads).hasSize(3);
+        assertThat(payloads).allMatch(payload -> payload.length() < 8000);
+        assertThat(payloads.stream()
+                .map(ItemChangeNotification::parse)
+                .flatMap(notification -> notification.getItemIds().stream()))
+                .containsExactlyElementsOf(itemIds);
+        assertThat(ItemChangeNotification.parse(payloads.get(0)).getItemIds()).hasSize(ItemChangeNotification.MAX_IDS_PER_PAYLOAD);
+    }
+
+    @Test
+    void sendsNoPayloadWithoutIds() {
+        assertThat(ItemChangeNotification.payloads(ItemChangeNotification.Operation.INSERT, List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,46 @@
+package dev.magadiflo.app.replica;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemWriteTokenTests {
+
+    @Test
+    void decodesAWrittenVersion() {
+        ItemWriteToken token = ItemWriteToken.decode("42.7");
+
+        assertThat(token.getItemId()).isEqualTo(42L);
+        assertThat(token.getVersion()).isEqualTo(7L);
+        assertThat(token.isDeleted()).isFalse();
+    }
+
+    @Test
+    void decodesADeletion() {
+        ItemWriteToken token = ItemWriteToken.decode("42.deleted");
+
+        assertThat(token.getItemId()).isEqualTo(42L);
+        assertThat(token.getVersion()).isNull();
+        assertThat(token.isDeleted()).isTrue();
+    }
+
+    @Test
+    void decodesWhatItEncodes() {
+        assertThat(ItemWriteToken.decode(ItemWriteToken.written(5L, 0L).encode()))
+                .usingRecursiveComparison()
+                .isEqualTo(ItemWriteToken.written(5L, 0L));
+        assertThat(ItemWriteToken.decode(ItemWriteToken.deleted(5L).encode()))
+                .usingRecursiveComparison()
+                .isEqualTo(ItemWriteToken.deleted(5L));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  ", "42", "42.", ".7", "uno.7", "42.siete", "42.7.1", "42.DELETED"})
+    void ignoresAValueItCannotInterpret(String value) {
+        assertThat(ItemWriteToken.decode(value)).isNull();
+    }
+}
@@ -0,0 +1,84 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.model.dto.ArchivedItemSearchCriteria;
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.util.ItemCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemArchiveRepositoryTests {
+
+    private static final Pattern PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+
+    @Test
+    void readsTheFirstPageWithoutFilters() {
+        SqlStatement statement = ItemArchiveRepository.findAllStatement(new ArchivedItemSearchCriteria(), null, 50);
+
+        assertThat(statement.sql())
+                .contains("FROM items_archive AS a")
+                .endsWith(" AS at ON(true)\n ORDER BY a.last_modified_date, a.id LIMIT :limit");
+        assertThat(statement.parameters()).containsOnlyKeys("limit").containsEntry("limit", 50);
+    }
+
+    @Test
+    void limitsTheDateRangeToWholeDays() {
+        SqlStatement statement = ItemArchiveRepository.findAllStatement(ArchivedItemSearchCriteria.builder()
+                .from(LocalDate.of(2024, 1, 1))
+                .to(LocalDate.of(2024, 3, 1))
+                .build(), null, 50);
+
+        // Comparar last_modified_date directamente permite descartar las particiones fuera del rango
+        assertThat(statement.sql()).contains(" WHERE a.last_modified_date >= :from AND a.last_modified_date < :to ORDER BY");
+        assertThat(statement.parameters())
+                .containsEntry("from", LocalDateTime.of(2024, 1, 1, 0, 0))
+                .containsEntry("to", LocalDateTime.of(2024, 3, 1, 0, 0));
+        assertBindsEveryParameter(statement);
+    }
+
+    @Test
+    void filtersByAssigneeAndTag() {
+        SqlStatement statement = ItemArchiveRepository.findAllStatement(ArchivedItemSearchCriteria.builder()
+                .assigneeId(3L)
+                .tagId(8L)
+                .build(), null, 20);
+
+        assertThat(statement.sql()).contains(" WHERE a.assignee_id = :assigneeId AND :tagId = ANY(a.tag_ids) ORDER BY");
+        assertThat(statement.parameters())
+                .containsEntry("assigneeId", 3L)
+                .containsEntry("tagId", 8L);
+        assertBindsEveryParameter(statement);
+    }
+
+    @Test
+    void continuesAfterTheCursor() {
+        LocalDateTime lastModifiedDate = LocalDateTime.of(2024, 2, 10, 9, 15);
+        ItemCursor after = ItemCursor.of(Item.builder().id(99L).lastModifiedDate(lastModifiedDate).build());
+
+        SqlStatement statement = ItemArchiveRepository.findAllStatement(ArchivedItemSearchCriteria.builder()
+                .tagId(8L)
+                .build(), after, 20);
+
+        assertThat(statement.sql()).endsWith(" WHERE :tagId = ANY(a.tag_ids) AND " +
+                                             "(a.last_modified_date, a.id) > (:lastModifiedDate, :id) " +
+                                             "ORDER BY a.last_modified_date, a.id LIMIT :limit");
+        assertThat(statement.parameters())
+                .containsEntry("lastModifiedDate", lastModifiedDate)
+                .containsEntry("id", 99L)
+                .containsEntry("limit", 20);
+        assertBindsEveryParameter(statement);
+    }
+
+    private static void assertBindsEveryParameter(SqlStatement statement) {
+        Set<String> placeholders = PARAMETER.matcher(statement.sql()).results()
+                .map(result -> result.group(1))
+                .collect(Collectors.toSet());
+        assertThat(statement.parameters().keySet()).isEqualTo(placeholders);
+    }
+}
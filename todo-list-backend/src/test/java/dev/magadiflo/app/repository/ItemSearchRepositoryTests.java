@@ -0,0 +1,103 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.model.dto.ItemSearchCriteria;
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.enums.ItemStatus;
+import dev.magadiflo.app.model.enums.TagMatch;
+import dev.magadiflo.app.util.ItemCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSearchRepositoryTests {
+
+    private static final Pattern PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+
+    @Test
+    void readsEveryItemInKeysetOrderWithoutFilters() {
+        SqlStatement statement = ItemSearchRepository.findItemsStatement(new ItemSearchCriteria(), null, null);
+
+        assertThat(statement.sql()).isEqualTo("SELECT i.* FROM items AS i ORDER BY i.last_modified_date, i.id");
+        assertThat(statement.parameters()).isEmpty();
+    }
+
+    @Test
+    void combinesTheFiltersWithAnd() {
+        SqlStatement statement = ItemSearchRepository.findItemsStatement(ItemSearchCriteria.builder()
+                .status(ItemStatus.DONE)
+                .assigneeId(3L)
+                .q("reunión")
+                .build(), null, null);
+
+        assertThat(statement.sql()).isEqualTo("SELECT i.* FROM items AS i WHERE i.status = :status AND " +
+                                              "i.assignee_id = :assigneeId AND " +
+                                              "to_tsvector('spanish', i.description) @@ websearch_to_tsquery('spanish', :q) " +
+                                              "ORDER BY i.last_modified_date, i.id");
+        assertThat(statement.parameters())
+                .containsEntry("status", "DONE")
+                .containsEntry("assigneeId", 3L)
+                .containsEntry("q", "reunión");
+        assertBindsEveryParameter(statement);
+    }
+
+    @Test
+    void matchesAnyOfTheTags() {
+        SqlStatement statement = ItemSearchRepository.findItemsStatement(ItemSearchCriteria.builder()
+                .tagId(Set.of(1L, 2L))
+                .build(), null, null);
+
+        assertThat(statement.sql())
+                .contains("i.id IN (SELECT it.item_id FROM items_tags AS it WHERE it.tag_id = ANY(:tagIds))")
+                .doesNotContain("HAVING");
+        assertThat((Long[]) statement.parameters().get("tagIds")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(statement.parameters()).doesNotContainKey("tagCount");
+        assertBindsEveryParameter(statement);
+    }
+
+    @Test
+    void matchesAllOfTheTags() {
+        SqlStatement statement = ItemSearchRepository.findItemsStatement(ItemSearchCriteria.builder()
+                .tagId(Set.of(1L, 2L, 5L))
+                .tagMatch(TagMatch.ALL)
+                .build(), null, null);
+
+        assertThat(statement.sql())
+                .contains("WHERE it.tag_id = ANY(:tagIds)")
+                .contains("GROUP BY it.item_id")
+                .contains("HAVING count(*) = :tagCount");
+        // count(*) es BIGINT: el parámetro debe enlazarse como Long
+        assertThat(statement.parameters()).containsEntry("tagCount", 3L);
+        assertBindsEveryParameter(statement);
+    }
+
+    @Test
+    void continuesAfterTheCursorWithALimit() {
+        LocalDateTime lastModifiedDate = LocalDateTime.of(2024, 9, 5, 18, 30);
+        ItemCursor after = ItemCursor.of(Item.builder().id(10L).lastModifiedDate(lastModifiedDate).build());
+
+        SqlStatement statement = ItemSearchRepository.findItemsStatement(ItemSearchCriteria.builder()
+                .status(ItemStatus.TO_DO)
+                .build(), after, 50);
+
+        assertThat(statement.sql()).isEqualTo("SELECT i.* FROM items AS i WHERE i.status = :status AND " +
+                                              "(i.last_modified_date, i.id) > (:lastModifiedDate, :id) " +
+                                              "ORDER BY i.last_modified_date, i.id LIMIT :limit");
+        assertThat(statement.parameters())
+                .containsEntry("lastModifiedDate", lastModifiedDate)
+                .containsEntry("id", 10L)
+                .containsEntry("limit", 50);
+        assertBindsEveryParameter(statement);
+    }
+
+    private static void assertBindsEveryParameter(SqlStatement statement) {
+        Set<String> placeholders = PARAMETER.matcher(statement.sql()).results()
+                .map(result -> result.group(1))
+                .collect(Collectors.toSet());
+        assertThat(statement.parameters().keySet()).isEqualTo(placeholders);
+    }
+}
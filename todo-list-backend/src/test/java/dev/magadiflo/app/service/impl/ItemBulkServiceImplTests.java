@@ -0,0 +1,156 @@
+package dev.magadiflo.app.service.impl;
+
+import dev.magadiflo.app.config.ItemBulkProperties;
+import dev.magadiflo.app.listener.ItemChangeNotification;
+import dev.magadiflo.app.mapper.ItemMapper;
+import dev.magadiflo.app.mapper.TagMapper;
+import dev.magadiflo.app.metrics.AppMetrics;
+import dev.magadiflo.app.model.dto.ItemBulkResultResource;
+import dev.magadiflo.app.model.dto.ItemBulkUpdateResource;
+import dev.magadiflo.app.model.dto.ItemVersionResource;
+import dev.magadiflo.app.model.entity.Item;
+import dev.magadiflo.app.model.enums.ItemBulkResultStatus;
+import dev.magadiflo.app.model.enums.ItemStatus;
+import dev.magadiflo.app.repository.ItemBulkRepository;
+import dev.magadiflo.app.repository.ItemNotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Clasificación de los resultados del bulk sin base de datos: el repositorio y la transacción son mocks.
+ */
+@ExtendWith(MockitoExtension.class)
+class ItemBulkServiceImplTests {
+
+    @Mock
+    private ItemBulkRepository itemBulkRepository;
+    @Mock
+    private ItemNotificationRepository itemNotificationRepository;
+    @Mock
+    private ItemMapper itemMapper;
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private ValidatorFactory validatorFactory;
+    private SimpleMeterRegistry meterRegistry;
+    private ItemBulkServiceImpl itemBulkService;
+
+    @BeforeEach
+    void setUp() {
+        this.validatorFactory = Validation.buildDefaultValidatorFactory();
+        this.meterRegistry = new SimpleMeterRegistry();
+        ItemBulkProperties itemBulkProperties = new ItemBulkProperties();
+        itemBulkProperties.setChunkSize(3);
+        this.itemBulkService = new ItemBulkServiceImpl(this.itemBulkRepository, this.itemNotificationRepository,
+                this.itemMapper, Mappers.getMapper(TagMapper.class), this.validatorFactory.getValidator(),
+                this.transactionalOperator, itemBulkProperties, new AppMetrics(this.meterRegistry));
+
+        when(this.transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(this.itemNotificationRepository.suppressTriggerNotifications()).thenReturn(Mono.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.validatorFactory.close();
+    }
+
+    @Test
+    void invalidatesEveryOccurrenceOfARepeatedId() {
+        // Solo el id que no se repite llega a la base de datos
+        when(this.itemBulkRepository.deleteAll(argThat(items -> items.stream().map(Item::getId).toList().equals(List.of(2L)))))
+                .thenReturn(Flux.just(2L));
+        when(this.itemBulkRepository.findVersionsByIds(Set.of())).thenReturn(Mono.just(Map.of()));
+        when(this.itemNotificationRepository.notify(ItemChangeNotification.Operation.DELETE, List.of(2L))).thenReturn(Mono.empty());
+
+        StepVerifier.create(this.itemBulkService.deleteItems(Flux.just(
+                        new ItemVersionResource(1L, 0L), new ItemVersionResource(2L, 0L), new ItemVersionResource(1L, 0L))))
+                .assertNext(result -> this.assertResult(result, 0L, ItemBulkResultStatus.INVALID, 1L))
+                .assertNext(result -> this.assertResult(result, 1L, ItemBulkResultStatus.DELETED, 2L))
+                .assertNext(result -> this.assertResult(result, 2L, ItemBulkResultStatus.INVALID, 1L))
+                .verifyComplete();
+    }
+
+    @Test
+    void reportsAVersionConflictOnlyWhenTheItemStillExists() {
+        when(this.itemBulkRepository.deleteAll(anyList())).thenReturn(Flux.just(1L));
+        when(this.itemBulkRepository.findVersionsByIds(Set.of(2L, 3L))).thenReturn(Mono.just(Map.of(2L, 5L)));
+        when(this.itemNotificationRepository.notify(ItemChangeNotification.Operation.DELETE, List.of(1L))).thenReturn(Mono.empty());
+
+        StepVerifier.create(this.itemBulkService.deleteItems(Flux.just(
+                        new ItemVersionResource(1L, 0L), new ItemVersionResource(2L, 0L), new ItemVersionResource(3L, 0L))))
+                .assertNext(result -> this.assertResult(result, 0L, ItemBulkResultStatus.DELETED, 1L))
+                .assertNext(result -> {
+                    this.assertResult(result, 1L, ItemBulkResultStatus.VERSION_CONFLICT, 2L);
+                    assertThat(result.getVersion()).isEqualTo(5L);
+                })
+                .assertNext(result -> this.assertResult(result, 2L, ItemBulkResultStatus.NOT_FOUND, 3L))
+                .verifyComplete();
+
+        assertThat(this.meterRegistry.counter("items.version.conflicts", "operation", "deleteItems").count()).isEqualTo(1);
+    }
+
+    @Test
+    void reportsTheWholeChunkAsFailedAndContinuesWithTheNextOne() {
+        when(this.itemBulkRepository.updateAll(anyList(), any()))
+                .thenReturn(Flux.error(new DataIntegrityViolationException("fk_items_assignee_id")))
+                .thenReturn(Flux.just(Item.builder().id(4L).version(1L).build()));
+        when(this.itemBulkRepository.deleteItemTags(Set.of(4L))).thenReturn(Mono.just(0L));
+        when(this.itemBulkRepository.insertItemTags(List.of())).thenReturn(Mono.just(0L));
+        when(this.itemBulkRepository.findVersionsByIds(Set.of())).thenReturn(Mono.just(Map.of()));
+        when(this.itemNotificationRepository.notify(ItemChangeNotification.Operation.UPDATE, List.of(4L))).thenReturn(Mono.empty());
+
+        StepVerifier.create(this.itemBulkService.updateItems(Flux.just(
+                        this.update(1L), this.update(2L), ItemBulkUpdateResource.builder().id(3L).build(), this.update(4L))))
+                .assertNext(result -> {
+                    this.assertResult(result, 0L, ItemBulkResultStatus.FAILED, 1L);
+                    assertThat(result.getMessage()).startsWith("El lote no se pudo escribir: ");
+                })
+                .assertNext(result -> this.assertResult(result, 1L, ItemBulkResultStatus.FAILED, 2L))
+                .assertNext(result -> this.assertResult(result, 2L, ItemBulkResultStatus.INVALID, null))
+                .assertNext(result -> this.assertResult(result, 3L, ItemBulkResultStatus.UPDATED, 4L))
+                .verifyComplete();
+
+        verify(this.itemNotificationRepository, never()).notify(eq(ItemChangeNotification.Operation.UPDATE), eq(List.of(1L, 2L)));
+    }
+
+    private ItemBulkUpdateResource update(Long itemId) {
+        return ItemBulkUpdateResource.builder()
+                .id(itemId)
+                .version(0L)
+                .description("Item " + itemId)
+                .status(ItemStatus.TO_DO)
+                .build();
+    }
+
+    private void assertResult(ItemBulkResultResource result, Long index, ItemBulkResultStatus status, Long itemId) {
+        assertThat(result.getIndex()).isEqualTo(index);
+        assertThat(result.getStatus()).isEqualTo(status);
+        assertThat(result.getItemId()).isEqualTo(itemId);
+    }
+}
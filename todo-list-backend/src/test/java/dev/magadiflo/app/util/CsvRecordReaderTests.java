@@ -0,0 +1,73 @@
+package dev.magadiflo.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTests {
+
+    @Test
+    void splitsFieldsAtCommas() {
+        CsvRecordReader reader = new CsvRecordReader(1000);
+
+        assertThat(reader.read("Comprar pan,TO_DO,Martín Díaz,Work|Meal"))
+                .containsExactly("Comprar pan", "TO_DO", "Martín Díaz", "Work|Meal");
+        assertThat(reader.recordLineNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsEmptyFields() {
+        CsvRecordReader reader = new CsvRecordReader(1000);
+
+        assertThat(reader.read("Comprar pan,,,")).containsExactly("Comprar pan", "", "", "");
+        assertThat(reader.read("")).containsExactly("");
+    }
+
+    @Test
+    void readsCommasAndEscapedQuotesInsideQuotes() {
+        CsvRecordReader reader = new CsvRecordReader(1000);
+
+        assertThat(reader.read("\"Llamar a \"\"Ana\"\", Luis y Eva\",DONE"))
+                .containsExactly("Llamar a \"Ana\", Luis y Eva", "DONE");
+    }
+
+    @Test
+    void joinsALineBreakInsideQuotesIntoTheSameField() {
+        CsvRecordReader reader = new CsvRecordReader(1000);
+
+        assertThat(reader.read("Primero,TO_DO")).containsExactly("Primero", "TO_DO");
+        assertThat(reader.read("\"Primera línea")).isNull();
+        assertThat(reader.hasUnterminatedRecord()).isTrue();
+        assertThat(reader.read("")).isNull();
+        assertThat(reader.read("tercera línea\",IN_PROGRESS"))
+                .containsExactly("Primera línea\n\ntercera línea", "IN_PROGRESS");
+        assertThat(reader.hasUnterminatedRecord()).isFalse();
+        // El registro se informa en la línea en la que empieza
+        assertThat(reader.recordLineNumber()).isEqualTo(2);
+
+        assertThat(reader.read("Último,DONE")).containsExactly("Último", "DONE");
+        assertThat(reader.recordLineNumber()).isEqualTo(5);
+    }
+
+    @Test
+    void reportsAFileThatEndsInsideQuotes() {
+        CsvRecordReader reader = new CsvRecordReader(1000);
+
+        assertThat(reader.read("\"Sin cerrar,TO_DO")).isNull();
+        assertThat(reader.hasUnterminatedRecord()).isTrue();
+    }
+
+    @Test
+    void discardsARecordLongerThanTheMaximumAndContinues() {
+        CsvRecordReader reader = new CsvRecordReader(10);
+
+        assertThat(reader.read("\"12345")).isNull();
+        assertThatThrownBy(() -> reader.read("67890,abc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("10");
+        assertThat(reader.hasUnterminatedRecord()).isFalse();
+        assertThat(reader.read("corto,DONE")).containsExactly("corto", "DONE");
+        assertThat(reader.recordLineNumber()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,59 @@
+package dev.magadiflo.app.util;
+
+import dev.magadiflo.app.exception.InvalidCursorException;
+import dev.magadiflo.app.model.entity.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemCursorTests {
+
+    @Test
+    void decodesWhatItEncodes() {
+        LocalDateTime lastModifiedDate = LocalDateTime.of(2024, 9, 5, 18, 30, 15, 123456000);
+        ItemCursor cursor = ItemCursor.of(Item.builder().id(42L).lastModifiedDate(lastModifiedDate).build());
+
+        ItemCursor decoded = ItemCursor.decode(cursor.encode());
+
+        assertThat(decoded.getLastModifiedDate()).isEqualTo(lastModifiedDate);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void encodesAsUrlSafeTextWithoutPadding() {
+        ItemCursor cursor = ItemCursor.of(Item.builder().id(7L).lastModifiedDate(LocalDateTime.of(2024, 1, 1, 0, 0)).build());
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    void returnsNullWithoutCursor(String cursor) {
+        assertThat(ItemCursor.decode(cursor)).isNull();
+        assertThat(ItemCursor.decode(null)).isNull();
+    }
+
+    @Test
+    void rejectsTextThatIsNotBase64() {
+        assertThatThrownBy(() -> ItemCursor.decode("no es base64!"))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("no es base64!");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-09-05T18:30:15", "fecha|1", "2024-09-05T18:30:15|uno"})
+    void rejectsAMalformedValue(String value) {
+        String cursor = Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ItemCursor.decode(cursor))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining(cursor);
+    }
+}